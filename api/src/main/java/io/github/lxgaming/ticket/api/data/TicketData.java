@@ -30,6 +30,7 @@ public class TicketData implements Comparable<TicketData> {
     private String text;
     private int status;
     private boolean read;
+    private int version;
     private Collection<CommentData> comments;
     
     public int getId() {
@@ -88,6 +89,14 @@ public class TicketData implements Comparable<TicketData> {
         this.read = read;
     }
     
+    public int getVersion() {
+        return version;
+    }
+    
+    public void setVersion(int version) {
+        this.version = version;
+    }
+    
     public Collection<CommentData> getComments() {
         return comments;
     }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.api.Platform;
+import io.github.lxgaming.ticket.api.util.Logger;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class BenchmarkPlatform implements Platform {
+    
+    private final Path path;
+    
+    private BenchmarkPlatform(Path path) {
+        this.path = path;
+    }
+    
+    public static TicketImpl load() throws IOException {
+        return load("{\"storage\":{\"type\":\"memory\"}}");
+    }
+    
+    public static TicketImpl load(String config) throws IOException {
+        Path path = Files.createTempDirectory(Reference.ID + "-benchmark");
+        Files.write(path.resolve("config.json"), config.getBytes(StandardCharsets.UTF_8));
+        
+        TicketImpl ticket = new TicketImpl(new BenchmarkPlatform(path));
+        
+        // Debug output is discarded the same way the platforms discard it when debug mode is disabled
+        ticket.getLogger()
+                .add(Logger.Level.DEBUG, message -> {
+                })
+                .add(Logger.Level.INFO, System.out::println)
+                .add(Logger.Level.WARN, System.err::println)
+                .add(Logger.Level.ERROR, System.err::println);
+        
+        ticket.loadTicket();
+        return ticket;
+    }
+    
+    public static void unload(TicketImpl ticket) throws IOException {
+        ticket.unloadTicket();
+        try (Stream<Path> stream = Files.walk(ticket.getPlatform().getPath())) {
+            for (Path path : (Iterable<Path>) stream.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+    
+    @Override
+    public boolean isOnline(UUID uniqueId) {
+        return false;
+    }
+    
+    @Override
+    public Optional<String> getUsername(UUID uniqueId) {
+        return Optional.of(uniqueId.toString().substring(0, 16));
+    }
+    
+    @Override
+    public Path getPath() {
+        return path;
+    }
+}
\ No newline at end of file
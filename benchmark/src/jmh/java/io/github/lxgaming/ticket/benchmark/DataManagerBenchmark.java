@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class DataManagerBenchmark {
+    
+    private static final int USERS = 100;
+    
+    @Param({"1000", "10000", "100000"})
+    private int tickets;
+    
+    private TicketImpl ticket;
+    private UUID uniqueId;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ticket = BenchmarkPlatform.load();
+        
+        UUID[] uniqueIds = new UUID[USERS];
+        for (int index = 0; index < uniqueIds.length; index++) {
+            uniqueIds[index] = UUID.randomUUID();
+        }
+        
+        for (int index = 1; index <= tickets; index++) {
+            TicketData ticket = new TicketData();
+            ticket.setId(index);
+            ticket.setUser(uniqueIds[index % uniqueIds.length]);
+            ticket.setTimestamp(Instant.now());
+            ticket.setLocation(new LocationData());
+            ticket.setText("Ticket #" + index);
+            DataManager.cacheTicket(ticket);
+        }
+        
+        uniqueId = uniqueIds[0];
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkPlatform.unload(ticket);
+    }
+    
+    @Benchmark
+    public Collection<TicketData> getCachedOpenTickets() {
+        return DataManager.getCachedOpenTickets();
+    }
+    
+    @Benchmark
+    public Collection<TicketData> getCachedOpenTicketsByUser() {
+        return DataManager.getCachedOpenTickets(uniqueId);
+    }
+}
\ No newline at end of file
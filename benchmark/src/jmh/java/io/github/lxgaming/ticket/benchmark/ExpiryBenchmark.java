@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.cache.TicketExpiry;
+import io.github.lxgaming.ticket.common.cache.UserExpiry;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ExpiryBenchmark {
+    
+    private final TicketExpiry ticketExpiry = new TicketExpiry();
+    private final UserExpiry userExpiry = new UserExpiry();
+    private TicketImpl ticket;
+    private TicketData openTicket;
+    private TicketData closedTicket;
+    private UserData onlineUser;
+    private UserData offlineUser;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ticket = BenchmarkPlatform.load();
+        
+        onlineUser = createUser();
+        PresenceManager.addUser(onlineUser.getUniqueId());
+        offlineUser = createUser();
+        
+        openTicket = createTicket(1, offlineUser, 0);
+        closedTicket = createTicket(2, offlineUser, 1);
+        DataManager.cacheTicket(openTicket);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        PresenceManager.removeUser(onlineUser.getUniqueId());
+        BenchmarkPlatform.unload(ticket);
+    }
+    
+    @Benchmark
+    public long ticketExpiryOpen() {
+        return ticketExpiry.expireAfterRead(openTicket.getId(), openTicket, 0L, 0L);
+    }
+    
+    @Benchmark
+    public long ticketExpiryClosed() {
+        return ticketExpiry.expireAfterRead(closedTicket.getId(), closedTicket, 0L, 0L);
+    }
+    
+    @Benchmark
+    public long userExpiryOnline() {
+        return userExpiry.expireAfterRead(onlineUser.getUniqueId(), onlineUser, 0L, 0L);
+    }
+    
+    @Benchmark
+    public long userExpiryOpenTicket() {
+        return userExpiry.expireAfterRead(offlineUser.getUniqueId(), offlineUser, 0L, 0L);
+    }
+    
+    private UserData createUser() {
+        UserData user = new UserData();
+        user.setUniqueId(UUID.randomUUID());
+        user.setName("Benchmark");
+        return user;
+    }
+    
+    private TicketData createTicket(int id, UserData user, int status) {
+        TicketData ticket = new TicketData();
+        ticket.setId(id);
+        ticket.setUser(user.getUniqueId());
+        ticket.setTimestamp(Instant.now());
+        ticket.setLocation(new LocationData());
+        ticket.setText("Ticket #" + id);
+        ticket.setStatus(status);
+        return ticket;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.api.util.Logger;
+import io.github.lxgaming.ticket.common.util.LoggerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class LoggerBenchmark {
+    
+    private final UUID uniqueId = UUID.randomUUID();
+    private final Exception exception = new IllegalStateException("Benchmark");
+    private LoggerImpl logger;
+    
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        // LoggerImpl::format is private, the consumer receives its output
+        logger = new LoggerImpl().add(Logger.Level.INFO, blackhole::consume);
+    }
+    
+    @Benchmark
+    public void formatPlain() {
+        logger.info("Loaded open tickets");
+    }
+    
+    @Benchmark
+    public void formatArguments() {
+        logger.info("UserExpiry - {} ({}) {}", "Benchmark", uniqueId, "1 Hour");
+    }
+    
+    @Benchmark
+    public void formatThrowable() {
+        logger.info("Encountered an error processing {}", "LoggerBenchmark::formatThrowable", exception);
+    }
+}
\ No newline at end of file
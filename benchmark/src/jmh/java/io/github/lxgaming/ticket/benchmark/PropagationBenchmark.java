@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.common.simulation.ProxyCluster;
+import io.github.lxgaming.ticket.common.simulation.SimulatedProxy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class PropagationBenchmark {
+    
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(5L);
+    private ProxyCluster cluster;
+    private SimulatedProxy localProxy;
+    private SimulatedProxy remoteProxy;
+    private UUID uniqueId;
+    private int ticketId;
+    private boolean closed;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        cluster = ProxyCluster.start(2);
+        localProxy = cluster.getProxy(0);
+        remoteProxy = cluster.getProxy(1);
+        uniqueId = UUID.randomUUID();
+        ticketId = localProxy.openTicket(uniqueId, "Please help, I am stuck at spawn");
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        cluster.close();
+    }
+    
+    // Measures from the local update until the remote proxy has applied it to its cache
+    @Benchmark
+    public int propagateUpdate() throws Exception {
+        if (closed) {
+            localProxy.reopenTicket(ticketId, uniqueId);
+        } else {
+            localProxy.closeTicket(ticketId, uniqueId);
+        }
+        
+        closed = !closed;
+        int version = localProxy.getCachedVersion(ticketId);
+        long deadline = System.nanoTime() + TIMEOUT;
+        while (remoteProxy.getCachedVersion(ticketId) < version) {
+            // A dropped or rejected message would otherwise hang the run
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Ticket #" + ticketId + " did not reach version " + version + " on the remote proxy");
+            }
+            
+            Thread.yield();
+        }
+        
+        return version;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.benchmark;
+
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.Message;
+import io.github.lxgaming.ticket.common.message.MessageFormat;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
+import io.github.lxgaming.ticket.common.message.UserBanMessage;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class RedisMessageBenchmark {
+    
+    private static final String REMOTE_PROXY_ID = "remote";
+    
+    @Param({"json", "binary"})
+    private String format;
+    
+    @Param({"TicketOpen", "TicketComment", "UserBan"})
+    private String type;
+    
+    private TicketImpl ticket;
+    private Message message;
+    private String encodedMessage;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ticket = BenchmarkPlatform.load("{\"message\":{\"format\":\"" + format + "\"},\"storage\":{\"type\":\"memory\"}}");
+        
+        // Binary is only negotiated once every known proxy has announced that it can decode it
+        PresenceMessage presenceMessage = new PresenceMessage(Collections.emptyList(), false, EnumSet.allOf(MessageFormat.class));
+        presenceMessage.setProxyId(REMOTE_PROXY_ID);
+        MessageManager.handle(MessageManager.encode(presenceMessage).orElseThrow(() -> new IllegalStateException("Failed to encode Presence")));
+        
+        message = createMessage(type);
+        encodedMessage = MessageManager.encode(message).orElseThrow(() -> new IllegalStateException("Failed to encode " + type));
+        if (StringUtils.startsWith(encodedMessage, "{") != format.equals(MessageFormat.JSON.toString())) {
+            throw new IllegalStateException(type + " was not encoded as " + format);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkPlatform.unload(ticket);
+    }
+    
+    @Benchmark
+    public Optional<String> encode() {
+        return MessageManager.encode(message);
+    }
+    
+    @Benchmark
+    public Optional<Message> decode() {
+        return MessageManager.decode(encodedMessage);
+    }
+    
+    // Built the same way as the commands which send each message type
+    private static Message createMessage(String type) {
+        UserData user = new UserData();
+        user.setUniqueId(UUID.randomUUID());
+        user.setName("Benchmark");
+        
+        if (type.equals("TicketOpen")) {
+            TicketData ticket = new TicketData();
+            ticket.setId(1);
+            ticket.setUser(user.getUniqueId());
+            ticket.setTimestamp(Instant.now());
+            ticket.setLocation(new LocationData());
+            ticket.setText("Please help, I am stuck at spawn");
+            ticket.setComments(Sets.newTreeSet());
+            ticket.setVersion(1);
+            return new TicketOpenMessage(ticket, user);
+        } else if (type.equals("TicketComment")) {
+            CommentData comment = new CommentData();
+            comment.setId(1);
+            comment.setTicket(1);
+            comment.setUser(user.getUniqueId());
+            comment.setTimestamp(Instant.now());
+            comment.setText("Still stuck, the portal is not working");
+            return new TicketCommentMessage(comment.getTicket(), comment, 2, user);
+        } else if (type.equals("UserBan")) {
+            return new UserBanMessage(user, "Console");
+        }
+        
+        throw new IllegalArgumentException("Unsupported message type " + type);
+    }
+}
\ No newline at end of file
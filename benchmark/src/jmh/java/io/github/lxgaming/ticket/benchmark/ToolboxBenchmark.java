@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.benchmark;
+
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ToolboxBenchmark {
+    
+    private final String dateFormat = new TicketCategory().getDateFormat();
+    private final Instant instant = Instant.now();
+    private final String message = "\u00A76Please \u00A7lhelp\u00A7r, I am stuck at \u00A7aspawn\u00A7r";
+    
+    @Benchmark
+    public String getShortTimeString(TimeState state) {
+        return Toolbox.getShortTimeString(state.time);
+    }
+    
+    @Benchmark
+    public Optional<String> formatInstant() {
+        return Toolbox.formatInstant(dateFormat, instant);
+    }
+    
+    @Benchmark
+    public String convertColor() {
+        return Toolbox.convertColor(message);
+    }
+    
+    @State(Scope.Benchmark)
+    public static class TimeState {
+        
+        // Just now, seconds, minutes, hours and days
+        @Param({"0", "42000", "1500000", "7384000", "266000000"})
+        private long time;
+    }
+}
\ No newline at end of file
@@ -16,7 +16,6 @@
 
 package io.github.lxgaming.ticket.bungee;
 
-import com.imaginarycode.minecraft.redisbungee.RedisBungee;
 import io.github.lxgaming.ticket.api.Platform;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.util.Logger;
@@ -26,23 +25,32 @@ import io.github.lxgaming.ticket.bungee.command.CloseCommand;
 import io.github.lxgaming.ticket.bungee.command.CommentCommand;
 import io.github.lxgaming.ticket.bungee.command.DebugCommand;
 import io.github.lxgaming.ticket.bungee.command.HelpCommand;
+import io.github.lxgaming.ticket.bungee.command.HistoryCommand;
+import io.github.lxgaming.ticket.bungee.command.NearCommand;
 import io.github.lxgaming.ticket.bungee.command.OpenCommand;
 import io.github.lxgaming.ticket.bungee.command.PardonCommand;
 import io.github.lxgaming.ticket.bungee.command.ReadCommand;
 import io.github.lxgaming.ticket.bungee.command.ReloadCommand;
 import io.github.lxgaming.ticket.bungee.command.ReopenCommand;
+import io.github.lxgaming.ticket.bungee.command.SearchCommand;
 import io.github.lxgaming.ticket.bungee.command.TicketCommand;
 import io.github.lxgaming.ticket.bungee.command.UserCommand;
 import io.github.lxgaming.ticket.bungee.listener.BungeeListener;
-import io.github.lxgaming.ticket.bungee.listener.RedisListener;
+import io.github.lxgaming.ticket.bungee.listener.MessageListener;
+import io.github.lxgaming.ticket.bungee.message.RedisTransport;
+import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.configuration.Config;
 import io.github.lxgaming.ticket.common.manager.CommandManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.plugin.Plugin;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -64,6 +72,11 @@ public class BungeePlugin extends Plugin implements Platform {
                     }
                 });
         
+        getProxy().getPlayers().forEach(player -> {
+            // Players already connected when the plugin is enabled never fire a login event
+            PresenceManager.addUser(player.getUniqueId());
+            BungeeToolbox.updateNotifications(player);
+        });
         ticket.loadTicket();
         
         CommandManager.registerCommand(BanCommand.class);
@@ -71,39 +84,39 @@ public class BungeePlugin extends Plugin implements Platform {
         CommandManager.registerCommand(CommentCommand.class);
         CommandManager.registerCommand(DebugCommand.class);
         CommandManager.registerCommand(HelpCommand.class);
+        CommandManager.registerCommand(HistoryCommand.class);
+        CommandManager.registerCommand(NearCommand.class);
         CommandManager.registerCommand(OpenCommand.class);
         CommandManager.registerCommand(PardonCommand.class);
         CommandManager.registerCommand(ReadCommand.class);
         CommandManager.registerCommand(ReloadCommand.class);
         CommandManager.registerCommand(ReopenCommand.class);
+        CommandManager.registerCommand(SearchCommand.class);
         CommandManager.registerCommand(UserCommand.class);
         getProxy().getPluginManager().registerCommand(getInstance(), new TicketCommand());
         getProxy().getPluginManager().registerListener(getInstance(), new BungeeListener());
         
+        new MessageListener().register();
+        
         if (getProxy().getPluginManager().getPlugin("RedisBungee") != null) {
             Ticket.getInstance().getLogger().info("RedisBungee detected");
-            getProxy().getPluginManager().registerListener(getInstance(), new RedisListener());
-            RedisBungee.getApi().registerPubSubChannels(Reference.ID);
+            MessageManager.setTransport(new RedisTransport());
+            MessageManager.sendMessage(new PresenceMessage(PresenceManager.getLocalUsers(), true));
         }
     }
     
     @Override
     public void onDisable() {
-        if (getProxy().getPluginManager().getPlugin("RedisBungee") != null) {
-            RedisBungee.getApi().unregisterPubSubChannels(Reference.ID);
-        }
+        MessageManager.sendMessage(new PresenceMessage(Collections.emptySet(), false, Collections.emptySet()));
+        MessageManager.setTransport(null);
         
-        TicketImpl.getInstance().getStorage().close();
+        TicketImpl.getInstance().unloadTicket();
         Ticket.getInstance().getLogger().info("{} v{} unloaded", Reference.NAME, Reference.VERSION);
     }
     
     @Override
     public boolean isOnline(UUID uniqueId) {
-        if (uniqueId == Platform.CONSOLE_UUID) {
-            return true;
-        }
-        
-        return Optional.ofNullable(ProxyServer.getInstance().getPlayer(uniqueId)).map(ProxiedPlayer::isConnected).orElse(false);
+        return PresenceManager.isOnline(uniqueId);
     }
     
     @Override
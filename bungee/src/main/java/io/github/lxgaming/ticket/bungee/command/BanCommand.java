@@ -19,10 +19,10 @@ package io.github.lxgaming.ticket.bungee.command;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.UserBanMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
@@ -64,30 +64,32 @@ public class BanCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getUser(uniqueId).orElse(null);
-        if (user == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find user").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (user.isBanned()) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append(user.getName()).color(ChatColor.YELLOW).append(" has already been banned").color(ChatColor.RED).create());
-            return;
-        }
-        
-        user.setBanned(true);
-        if (TicketImpl.getInstance().getStorage().getQuery().updateUser(user)) {
-            BungeeToolbox.sendRedisMessage("UserBan", jsonObject -> {
-                jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-                jsonObject.addProperty("by", Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown"));
-            });
+        DataManager.getUser(uniqueId).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find user").color(ChatColor.RED).create());
+                return;
+            }
             
-            BungeeToolbox.broadcast(null, "ticket.ban.notify", BungeeToolbox.getTextPrefix()
-                    .append(user.getName()).color(ChatColor.YELLOW)
-                    .append(" was banned by ").color(ChatColor.GREEN)
-                    .append(Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")).color(ChatColor.YELLOW).create());
-        } else {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to update ").color(ChatColor.RED).append(user.getName()).color(ChatColor.YELLOW).create());
-        }
+            if (user.isBanned()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append(user.getName()).color(ChatColor.YELLOW).append(" has already been banned").color(ChatColor.RED).create());
+                return;
+            }
+            
+            user.setBanned(true);
+            DataManager.updateUser(user).thenAccept(result -> {
+                if (!result) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to update ").color(ChatColor.RED).append(user.getName()).color(ChatColor.YELLOW).create());
+                    return;
+                }
+                
+                MessageManager.sendMessage(new UserBanMessage(user, Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")));
+                
+                BungeeToolbox.broadcast(null, "ticket.ban.notify", BungeeToolbox.getTextPrefix()
+                        .append(user.getName()).color(ChatColor.YELLOW)
+                        .append(" was banned by ").color(ChatColor.GREEN)
+                        .append(Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")).color(ChatColor.YELLOW).create());
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
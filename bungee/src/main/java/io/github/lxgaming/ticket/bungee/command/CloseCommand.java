@@ -16,16 +16,16 @@
 
 package io.github.lxgaming.ticket.bungee.command;
 
-import io.github.lxgaming.ticket.api.data.CommentData;
 import io.github.lxgaming.ticket.api.data.TicketData;
 import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.bungee.BungeePlugin;
 import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketCloseMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
@@ -78,61 +78,54 @@ public class CloseCommand extends AbstractCommand {
         
         ticket.setStatus(1);
         ticket.setRead(false);
-        if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        UserData user = DataManager.getOrCreateUser(BungeeToolbox.getUniqueId(sender)).orElse(null);
-        if (user == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        BungeeToolbox.sendRedisMessage("TicketClose", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
-                .append("Ticket #" + ticket.getId() + " was closed by ").color(ChatColor.GOLD)
-                .append(user.getName()).color(ChatColor.YELLOW).create();
-        
-        String command = "/" + Reference.ID + " read " + ticket.getId();
-        
-        if (arguments.isEmpty()) {
-            // Forces the expiry to be recalculated
-            DataManager.getCachedTicket(ticketId);
-            ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
-            if (player != null) {
-                player.sendMessage(baseComponents);
-                player.sendMessage(BungeeToolbox.getTextPrefix()
-                        .append("Use ").color(ChatColor.GOLD)
-                        .append(command).color(ChatColor.GREEN).event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command))
-                        .append(" to view your ticket").color(ChatColor.GOLD).create());
+        DataManager.updateTicket(ticket).thenAccept(result -> {
+            if (!result) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                return;
             }
             
-            BungeeToolbox.broadcast(player, "ticket.close.notify", baseComponents);
-            return;
-        }
-        
-        String message = Toolbox.convertColor(String.join(" ", arguments));
-        if (message.length() > 256) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Message length may not exceed 256").color(ChatColor.RED).create());
-            return;
-        }
-        
-        CommentData comment = DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).orElse(null);
-        if (comment == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        BungeeToolbox.sendRedisMessage("TicketComment", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
+            DataManager.getOrCreateUser(BungeeToolbox.getUniqueId(sender)).thenAccept(optionalUser -> {
+                UserData user = optionalUser.orElse(null);
+                if (user == null) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                MessageManager.sendMessage(new TicketCloseMessage(ticket.getId(), ticket.getStatus(), ticket.isRead(), ticket.getVersion(), user));
+                
+                BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
+                        .append("Ticket #" + ticket.getId() + " was closed by ").color(ChatColor.GOLD)
+                        .append(user.getName()).color(ChatColor.YELLOW).create();
+                
+                if (arguments.isEmpty()) {
+                    // Forces the expiry to be recalculated
+                    DataManager.getCachedTicket(ticketId);
+                    notify(ticket, baseComponents);
+                    return;
+                }
+                
+                String message = Toolbox.convertColor(String.join(" ", arguments));
+                if (message.length() > 256) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("Message length may not exceed 256").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).thenAccept(optionalComment -> {
+                    if (!optionalComment.isPresent()) {
+                        sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                        return;
+                    }
+                    
+                    MessageManager.sendMessage(new TicketCommentMessage(ticket.getId(), optionalComment.get(), ticket.getVersion(), user));
+                    
+                    notify(ticket, baseComponents);
+                }).exceptionally(this::handleException);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
+    }
+    
+    private void notify(TicketData ticket, BaseComponent[] baseComponents) {
+        String command = "/" + Reference.ID + " read " + ticket.getId();
         ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
         if (player != null) {
             player.sendMessage(baseComponents);
@@ -25,9 +25,10 @@ import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
 import io.github.lxgaming.ticket.common.configuration.Config;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
@@ -76,65 +77,67 @@ public class CommentCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getOrCreateUser(BungeeToolbox.getUniqueId(sender)).orElse(null);
-        if (user == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (user.isBanned()) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have been banned").color(ChatColor.RED).create());
-            return;
-        }
-        
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket doesn't exist").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (!user.getUniqueId().equals(ticket.getUser()) && !sender.hasPermission("ticket.comment.others")) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("You are not the owner of that ticket").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (!sender.hasPermission("ticket.comment.exempt.cooldown")) {
-            long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getCommentDelay).orElse(0L);
-            for (CommentData comment : ticket.getComments()) {
-                long duration = comment.getTimestamp().minusMillis(time).toEpochMilli();
-                if (duration > 0) {
-                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("You need to wait " + (duration / 1000) + " seconds before adding another comment").color(ChatColor.RED).create());
-                    return;
-                }
+        DataManager.getOrCreateUser(BungeeToolbox.getUniqueId(sender)).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                return;
             }
-        }
-        
-        CommentData comment = DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).orElse(null);
-        if (comment == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        BungeeToolbox.sendRedisMessage("TicketComment", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
-                .append(user.getName()).color(ChatColor.YELLOW)
-                .append(" added a comment to Ticket #" + ticket.getId()).color(ChatColor.GOLD).create();
-        
-        ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
-        if (player != null) {
-            player.sendMessage(baseComponents);
             
-            String command = "/" + Reference.ID + " read " + ticket.getId();
-            player.sendMessage(BungeeToolbox.getTextPrefix()
-                    .append("Use ").color(ChatColor.GOLD)
-                    .append(command).color(ChatColor.GREEN).event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command))
-                    .append(" to view your ticket").color(ChatColor.GOLD).create());
-        }
-        
-        BungeeToolbox.broadcast(player, "ticket.comment.notify", baseComponents);
+            if (user.isBanned()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have been banned").color(ChatColor.RED).create());
+                return;
+            }
+            
+            DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+                TicketData ticket = optionalTicket.orElse(null);
+                if (ticket == null) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket doesn't exist").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                if (!user.getUniqueId().equals(ticket.getUser()) && !sender.hasPermission("ticket.comment.others")) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("You are not the owner of that ticket").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                if (!sender.hasPermission("ticket.comment.exempt.cooldown")) {
+                    long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getCommentDelay).orElse(0L);
+                    for (CommentData comment : ticket.getComments()) {
+                        long duration = comment.getTimestamp().minusMillis(time).toEpochMilli();
+                        if (duration > 0) {
+                            sender.sendMessage(BungeeToolbox.getTextPrefix().append("You need to wait " + (duration / 1000) + " seconds before adding another comment").color(ChatColor.RED).create());
+                            return;
+                        }
+                    }
+                }
+                
+                DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).thenAccept(optionalComment -> {
+                    if (!optionalComment.isPresent()) {
+                        sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                        return;
+                    }
+                    
+                    MessageManager.sendMessage(new TicketCommentMessage(ticket.getId(), optionalComment.get(), ticket.getVersion(), user));
+                    
+                    BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
+                            .append(user.getName()).color(ChatColor.YELLOW)
+                            .append(" added a comment to Ticket #" + ticket.getId()).color(ChatColor.GOLD).create();
+                    
+                    ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
+                    if (player != null) {
+                        player.sendMessage(baseComponents);
+                        
+                        String command = "/" + Reference.ID + " read " + ticket.getId();
+                        player.sendMessage(BungeeToolbox.getTextPrefix()
+                                .append("Use ").color(ChatColor.GOLD)
+                                .append(command).color(ChatColor.GREEN).event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command))
+                                .append(" to view your ticket").color(ChatColor.GOLD).create());
+                    }
+                    
+                    BungeeToolbox.broadcast(player, "ticket.comment.notify", baseComponents);
+                }).exceptionally(this::handleException);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.bungee.command;
+
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.chat.ClickEvent;
+import net.md_5.bungee.api.chat.ComponentBuilder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class HistoryCommand extends AbstractCommand {
+    
+    public HistoryCommand() {
+        addAlias("history");
+        setDescription("Lists tickets opened by the requested User");
+        setPermission("ticket.history.base");
+        setUsage("<User> [Page]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSender sender = (CommandSender) object;
+        if (arguments.isEmpty() || arguments.size() > 2) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Invalid arguments: " + getUsage()).color(ChatColor.RED).create());
+            return;
+        }
+        
+        String data = arguments.remove(0);
+        if (data.length() < 3 || (data.length() > 16 && data.length() != 36)) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Invalid argument length").color(ChatColor.RED).create());
+            return;
+        }
+        
+        int page = 1;
+        if (!arguments.isEmpty()) {
+            Integer value = Toolbox.parseInteger(arguments.remove(0)).orElse(null);
+            if (value == null || value < 1) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to parse page").color(ChatColor.RED).create());
+                return;
+            }
+            
+            page = value;
+        }
+        
+        if (data.length() == 36) {
+            UUID uniqueId = Toolbox.parseUUID(data).orElse(null);
+            if (uniqueId == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to parse unique id").color(ChatColor.RED).create());
+                return;
+            }
+            
+            sendHistory(sender, uniqueId, page);
+            return;
+        }
+        
+        int currentPage = page;
+        DataManager.getUsers(data).thenAccept(optionalUsers -> {
+            Collection<UserData> users = optionalUsers.orElse(null);
+            if (users == null || users.isEmpty()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Fail to find users by the name of ").color(ChatColor.RED).append(data).color(ChatColor.YELLOW).create());
+                return;
+            }
+            
+            if (users.size() == 1) {
+                sendHistory(sender, users.iterator().next().getUniqueId(), currentPage);
+                return;
+            }
+            
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" Users ").color(ChatColor.GREEN).strikethrough(false)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            for (UserData user : users) {
+                ComponentBuilder componentBuilder = new ComponentBuilder("");
+                componentBuilder.event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " history " + user.getUniqueId()));
+                componentBuilder.append("> ").color(ChatColor.BLUE);
+                
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    componentBuilder.append(user.getName()).color(ChatColor.GREEN);
+                } else {
+                    componentBuilder.append(user.getName()).color(ChatColor.RED);
+                }
+                
+                componentBuilder.append(" (").color(ChatColor.DARK_GRAY).append(user.getUniqueId().toString()).color(ChatColor.GRAY).append(")").color(ChatColor.DARK_GRAY);
+                sender.sendMessage(componentBuilder.create());
+            }
+        }).exceptionally(this::handleException);
+    }
+    
+    private void sendHistory(CommandSender sender, UUID uniqueId, int page) {
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        DataManager.getTicketHistory(uniqueId, page, pageSize).thenAccept(optionalTickets -> {
+            List<TicketData> tickets = optionalTickets.orElse(null);
+            if (tickets == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                return;
+            }
+            
+            if (tickets.isEmpty()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("There are no tickets on that page").color(ChatColor.YELLOW).create());
+                return;
+            }
+            
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" Ticket History ").color(ChatColor.YELLOW).strikethrough(false)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            
+            tickets.stream().limit(pageSize).forEach(ticket -> sender.sendMessage(BungeeToolbox.buildTicket(ticket)));
+            sender.sendMessage(BungeeToolbox.buildPagination(page, tickets.size() > pageSize, value -> "/" + Reference.ID + " history " + uniqueId + " " + value));
+        }).exceptionally(this::handleException);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.bungee.command;
+
+import io.github.lxgaming.location.api.Location;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.bungee.BungeePlugin;
+import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.chat.ComponentBuilder;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
+
+import java.util.Collection;
+import java.util.List;
+
+public class NearCommand extends AbstractCommand {
+    
+    public NearCommand() {
+        addAlias("near");
+        addAlias("nearby");
+        setDescription("Lists Open tickets near your location");
+        setPermission("ticket.near.base");
+        setUsage("[Radius]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSender sender = (CommandSender) object;
+        if (!(sender instanceof ProxiedPlayer)) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("This command can only be executed by players.").color(ChatColor.RED).create());
+            return;
+        }
+        
+        ProxiedPlayer player = (ProxiedPlayer) sender;
+        double radius;
+        if (!arguments.isEmpty()) {
+            radius = Toolbox.parseDouble(arguments.remove(0)).filter(value -> value > 0.0D && !value.isInfinite()).orElse(-1.0D);
+        } else {
+            radius = TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getNearbyRadius).orElse(64.0D);
+        }
+        
+        if (radius <= 0.0D) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to parse radius").color(ChatColor.RED).create());
+            return;
+        }
+        
+        LocationData location = new LocationData();
+        if (BungeePlugin.getInstance().getProxy().getPluginManager().getPlugin("Location") != null) {
+            Location.getInstance().getUser(player.getUniqueId()).ifPresent(locationUser -> {
+                location.setX(locationUser.getX());
+                location.setY(locationUser.getY());
+                location.setZ(locationUser.getZ());
+                if (locationUser.getDimension() != null) {
+                    location.setDimension(locationUser.getDimension().getId());
+                }
+                
+                location.setServer(locationUser.getServer());
+            });
+        }
+        
+        Collection<TicketData> tickets;
+        if (location.getX() != null && location.getZ() != null) {
+            tickets = DataManager.getCachedNearbyTickets(location, radius);
+        } else {
+            // Without coordinates the closest approximation is the server the player is connected to
+            tickets = DataManager.getCachedOpenTickets(player.getServer() != null ? player.getServer().getInfo().getName() : null);
+        }
+        
+        tickets.removeIf(ticket -> {
+            return !player.getUniqueId().equals(ticket.getUser()) && !sender.hasPermission("ticket.read.others");
+        });
+        
+        if (tickets.isEmpty()) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("There are no open tickets nearby").color(ChatColor.YELLOW).create());
+            return;
+        }
+        
+        sender.sendMessage(new ComponentBuilder("")
+                .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                .append(" " + tickets.size()).color(ChatColor.YELLOW).strikethrough(false)
+                .append(" Nearby " + Toolbox.formatUnit(tickets.size(), "Ticket", "Tickets") + " ").color(ChatColor.GREEN)
+                .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                .create());
+        
+        tickets.forEach(ticket -> sender.sendMessage(BungeeToolbox.buildTicket(ticket)));
+    }
+}
\ No newline at end of file
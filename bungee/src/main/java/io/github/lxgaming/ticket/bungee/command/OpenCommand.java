@@ -25,9 +25,10 @@ import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
 import io.github.lxgaming.ticket.common.configuration.Config;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
@@ -69,67 +70,68 @@ public class OpenCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getOrCreateUser(player.getUniqueId()).orElse(null);
-        if (user == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (user.isBanned()) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have been banned").color(ChatColor.RED).create());
-            return;
-        }
-        
-        Collection<TicketData> tickets = DataManager.getCachedOpenTickets(user.getUniqueId());
-        if (!sender.hasPermission("ticket.open.exempt.max")) {
-            if (tickets.size() >= TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getMaximumTickets).orElse(0)) {
-                sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have too many open tickets").color(ChatColor.RED).create());
+        DataManager.getOrCreateUser(player.getUniqueId()).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
                 return;
             }
-        }
-        
-        if (!sender.hasPermission("ticket.open.exempt.cooldown")) {
-            long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getOpenDelay).orElse(0L);
-            for (TicketData ticket : tickets) {
-                long duration = ticket.getTimestamp().minusMillis(time).toEpochMilli();
-                if (duration > 0) {
-                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("You need to wait " + (duration / 1000) + " seconds before opening another ticket").color(ChatColor.RED).create());
+            
+            if (user.isBanned()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have been banned").color(ChatColor.RED).create());
+                return;
+            }
+            
+            Collection<TicketData> tickets = DataManager.getCachedOpenTickets(user.getUniqueId());
+            if (!sender.hasPermission("ticket.open.exempt.max")) {
+                if (tickets.size() >= TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getMaximumTickets).orElse(0)) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("You have too many open tickets").color(ChatColor.RED).create());
                     return;
                 }
             }
-        }
-        
-        LocationData location = new LocationData();
-        if (BungeePlugin.getInstance().getProxy().getPluginManager().getPlugin("Location") != null) {
-            Location.getInstance().getUser(user.getUniqueId()).ifPresent(locationUser -> {
-                location.setX(locationUser.getX());
-                location.setY(locationUser.getY());
-                location.setZ(locationUser.getZ());
-                if (locationUser.getDimension() != null) {
-                    location.setDimension(locationUser.getDimension().getId());
+            
+            if (!sender.hasPermission("ticket.open.exempt.cooldown")) {
+                long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getOpenDelay).orElse(0L);
+                for (TicketData ticket : tickets) {
+                    long duration = ticket.getTimestamp().minusMillis(time).toEpochMilli();
+                    if (duration > 0) {
+                        sender.sendMessage(BungeeToolbox.getTextPrefix().append("You need to wait " + (duration / 1000) + " seconds before opening another ticket").color(ChatColor.RED).create());
+                        return;
+                    }
+                }
+            }
+            
+            LocationData location = new LocationData();
+            if (BungeePlugin.getInstance().getProxy().getPluginManager().getPlugin("Location") != null) {
+                Location.getInstance().getUser(user.getUniqueId()).ifPresent(locationUser -> {
+                    location.setX(locationUser.getX());
+                    location.setY(locationUser.getY());
+                    location.setZ(locationUser.getZ());
+                    if (locationUser.getDimension() != null) {
+                        location.setDimension(locationUser.getDimension().getId());
+                    }
+                    
+                    location.setServer(locationUser.getServer());
+                });
+            } else {
+                location.setServer(player.getServer().getInfo().getName());
+            }
+            
+            DataManager.createTicket(user.getUniqueId(), Instant.now(), location, message).thenAccept(optionalTicket -> {
+                TicketData ticket = optionalTicket.orElse(null);
+                if (ticket == null) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                    return;
                 }
                 
-                location.setServer(locationUser.getServer());
-            });
-        } else {
-            location.setServer(player.getServer().getInfo().getName());
-        }
-        
-        TicketData ticket = DataManager.createTicket(user.getUniqueId(), Instant.now(), location, message).orElse(null);
-        if (ticket == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        BungeeToolbox.sendRedisMessage("TicketOpen", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        sender.sendMessage(BungeeToolbox.getTextPrefix().append("You opened a ticket, it has been assigned ID #" + ticket.getId()).color(ChatColor.GOLD).create());
-        BungeeToolbox.broadcast(sender, "ticket.open.notify", BungeeToolbox.getTextPrefix()
-                .append("A new ticket has been opened by ").color(ChatColor.GREEN)
-                .append(user.getName()).color(ChatColor.YELLOW)
-                .append(", id assigned #" + ticket.getId()).color(ChatColor.GREEN).create());
+                MessageManager.sendMessage(new TicketOpenMessage(ticket, user));
+                
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("You opened a ticket, it has been assigned ID #" + ticket.getId()).color(ChatColor.GOLD).create());
+                BungeeToolbox.broadcast(sender, "ticket.open.notify", BungeeToolbox.getTextPrefix()
+                        .append("A new ticket has been opened by ").color(ChatColor.GREEN)
+                        .append(user.getName()).color(ChatColor.YELLOW)
+                        .append(", id assigned #" + ticket.getId()).color(ChatColor.GREEN).create());
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
 
 package io.github.lxgaming.ticket.bungee.command;
 
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.CommentData;
 import io.github.lxgaming.ticket.api.data.TicketData;
@@ -31,12 +33,13 @@ import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.chat.BaseComponent;
-import net.md_5.bungee.api.chat.ClickEvent;
 import net.md_5.bungee.api.chat.ComponentBuilder;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class ReadCommand extends AbstractCommand {
     
@@ -45,45 +48,25 @@ public class ReadCommand extends AbstractCommand {
         addAlias("check");
         setDescription("Lists Open, Unread tickets or provides details of a specific ticket");
         setPermission("ticket.read.base");
-        setUsage("[Id]");
+        setUsage("[Id | page <Page>]");
     }
     
     @Override
     public void execute(Object object, List<String> arguments) {
         CommandSender sender = (CommandSender) object;
         if (arguments.isEmpty()) {
-            Collection<TicketData> openTickets = DataManager.getCachedOpenTickets();
-            openTickets.removeIf(ticket -> {
-                return !BungeeToolbox.getUniqueId(sender).equals(ticket.getUser()) && !sender.hasPermission("ticket.read.others");
-            });
-            
-            if (!openTickets.isEmpty()) {
-                sender.sendMessage(new ComponentBuilder("")
-                        .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                        .append(" " + openTickets.size()).color(ChatColor.YELLOW).strikethrough(false)
-                        .append(" Open " + Toolbox.formatUnit(openTickets.size(), "Ticket", "Tickets") + " ").color(ChatColor.GREEN)
-                        .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                        .create());
-                
-                openTickets.forEach(ticket -> sender.sendMessage(buildTicket(ticket)));
-            }
-            
-            Collection<TicketData> unreadTickets = DataManager.getCachedUnreadTickets(BungeeToolbox.getUniqueId(sender));
-            if (!unreadTickets.isEmpty()) {
-                sender.sendMessage(new ComponentBuilder("")
-                        .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                        .append(" " + unreadTickets.size()).color(ChatColor.YELLOW).strikethrough(false)
-                        .append(" Unread " + Toolbox.formatUnit(unreadTickets.size(), "Ticket", "Tickets") + " ").color(ChatColor.GREEN)
-                        .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                        .create());
-                
-                unreadTickets.forEach(ticket -> sender.sendMessage(buildTicket(ticket)));
-            }
-            
-            if (openTickets.isEmpty() && unreadTickets.isEmpty()) {
-                sender.sendMessage(BungeeToolbox.getTextPrefix().append("There are no open tickets").color(ChatColor.YELLOW).create());
+            sendTickets(sender, 1);
+            return;
+        }
+        
+        if (arguments.size() == 2 && StringUtils.equalsIgnoreCase(arguments.get(0), "page")) {
+            Integer page = Toolbox.parseInteger(arguments.get(1)).orElse(null);
+            if (page == null || page < 1) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to parse page").color(ChatColor.RED).create());
+                return;
             }
             
+            sendTickets(sender, page);
             return;
         }
         
@@ -93,89 +76,153 @@ public class ReadCommand extends AbstractCommand {
             return;
         }
         
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find ticket").color(ChatColor.RED).create());
-            return;
-        }
-        
-        boolean owner = BungeeToolbox.getUniqueId(sender).equals(ticket.getUser());
-        if (!owner && !sender.hasPermission("ticket.read.others")) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("You are not the owner of that ticket").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (owner && !ticket.isRead()) {
-            ticket.setRead(true);
-            if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+        DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+            TicketData ticket = optionalTicket.orElse(null);
+            if (ticket == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find ticket").color(ChatColor.RED).create());
                 return;
             }
+            
+            boolean owner = BungeeToolbox.getUniqueId(sender).equals(ticket.getUser());
+            if (!owner && !sender.hasPermission("ticket.read.others")) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("You are not the owner of that ticket").color(ChatColor.RED).create());
+                return;
+            }
+            
+            if (owner && !ticket.isRead()) {
+                ticket.setRead(true);
+                DataManager.queueTicketRead(ticket);
+            }
+            
+            sendTicket(sender, ticket);
+        }).exceptionally(this::handleException);
+    }
+    
+    private void sendTickets(CommandSender sender, int page) {
+        UUID uniqueId = BungeeToolbox.getUniqueId(sender);
+        Collection<Integer> openTicketIds;
+        if (sender.hasPermission("ticket.read.others")) {
+            openTicketIds = DataManager.getTicketIndex().getOpenTicketIds();
+        } else {
+            openTicketIds = DataManager.getTicketIndex().getOpenTicketIds(uniqueId);
         }
         
-        ComponentBuilder componentBuilder = new ComponentBuilder("");
-        componentBuilder.append("----------").color(ChatColor.GREEN).strikethrough(true);
-        componentBuilder.append(" Ticket #" + ticket.getId() + " ").color(ChatColor.YELLOW).strikethrough(false);
-        componentBuilder.append("----------").color(ChatColor.GREEN).strikethrough(true);
-        componentBuilder.append("\n", ComponentBuilder.FormatRetention.NONE);
-        
-        componentBuilder.append("Time").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
-        componentBuilder.append(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getDateFormat).flatMap(pattern -> Toolbox.formatInstant(pattern, ticket.getTimestamp())).orElse("Unknown"));
-        
-        componentBuilder.append("\n");
-        componentBuilder.append("Status").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
-        if (ticket.getStatus() == 0) {
-            componentBuilder.append("Open").color(ChatColor.GREEN);
-        } else if (ticket.getStatus() == 1) {
-            componentBuilder.append("Closed").color(ChatColor.RED);
+        Collection<Integer> unreadTicketIds = DataManager.getTicketIndex().getUnreadTicketIds(uniqueId);
+        int openSize = openTicketIds.size();
+        int unreadSize = unreadTicketIds.size();
+        if (openSize == 0 && unreadSize == 0) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("There are no open tickets").color(ChatColor.YELLOW).create());
+            return;
         }
         
-        componentBuilder.append("\n");
-        componentBuilder.append("User").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
-        UserData user = DataManager.getUser(ticket.getUser()).orElse(null);
-        if (user != null) {
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                componentBuilder.append(user.getName()).color(ChatColor.GREEN);
-            } else {
-                componentBuilder.append(user.getName()).color(ChatColor.RED);
-            }
-        } else {
-            componentBuilder.append("Unknown").color(ChatColor.WHITE);
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        int pages = ((openSize + unreadSize) + pageSize - 1) / pageSize;
+        if (page > pages) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("There are no tickets on that page").color(ChatColor.YELLOW).create());
+            return;
         }
         
-        componentBuilder.append("\n");
-        componentBuilder.append("Location").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
-        
-        if (ticket.getLocation().getX() != null && ticket.getLocation().getY() != null && ticket.getLocation().getZ() != null) {
-            componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getX(), 3)).color(ChatColor.WHITE).append(", ").color(ChatColor.GRAY);
-            componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getY(), 3)).color(ChatColor.WHITE).append(", ").color(ChatColor.GRAY);
-            componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getZ(), 3)).color(ChatColor.WHITE).append(" @ ").color(ChatColor.GRAY);
+        // Open tickets are listed before unread tickets, only the tickets on the requested page are looked up and rendered
+        int offset = (page - 1) * pageSize;
+        List<TicketData> openTickets = DataManager.getCachedTickets(openTicketIds, offset, pageSize);
+        List<TicketData> unreadTickets = DataManager.getCachedTickets(unreadTicketIds, Math.max(offset - openSize, 0), pageSize - openTickets.size());
+        
+        if (!openTickets.isEmpty()) {
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" " + openSize).color(ChatColor.YELLOW).strikethrough(false)
+                    .append(" Open " + Toolbox.formatUnit(openSize, "Ticket", "Tickets") + " ").color(ChatColor.GREEN)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            
+            openTickets.forEach(ticket -> sender.sendMessage(BungeeToolbox.buildTicket(ticket)));
         }
         
-        componentBuilder.append(StringUtils.defaultIfBlank(ticket.getLocation().getServer(), "Unknown")).color(ChatColor.WHITE);
-        if (ticket.getLocation().getDimension() != null) {
-            componentBuilder.append(" (").color(ChatColor.GRAY).append("" + ticket.getLocation().getDimension()).color(ChatColor.WHITE).append(")").color(ChatColor.GRAY);
+        if (!unreadTickets.isEmpty()) {
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" " + unreadSize).color(ChatColor.YELLOW).strikethrough(false)
+                    .append(" Unread " + Toolbox.formatUnit(unreadSize, "Ticket", "Tickets") + " ").color(ChatColor.GREEN)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            
+            unreadTickets.forEach(ticket -> sender.sendMessage(BungeeToolbox.buildTicket(ticket)));
         }
         
-        componentBuilder.append("\n");
-        componentBuilder.append("Message").color(ChatColor.AQUA).append(": " + ticket.getText()).color(ChatColor.WHITE);
-        if (!ticket.getComments().isEmpty()) {
+        if (pages > 1) {
+            sender.sendMessage(BungeeToolbox.buildPagination(page, page < pages, value -> "/" + Reference.ID + " read page " + value));
+        }
+    }
+    
+    private void sendTicket(CommandSender sender, TicketData ticket) {
+        Collection<UUID> uniqueIds = Sets.newHashSet(ticket.getUser());
+        ticket.getComments().forEach(comment -> uniqueIds.add(comment.getUser()));
+        DataManager.getUsers(uniqueIds).thenAccept(optionalUsers -> {
+            Map<UUID, UserData> users = Maps.newHashMap();
+            optionalUsers.ifPresent(collection -> collection.forEach(user -> users.put(user.getUniqueId(), user)));
+            
+            ComponentBuilder componentBuilder = new ComponentBuilder("");
+            componentBuilder.append("----------").color(ChatColor.GREEN).strikethrough(true);
+            componentBuilder.append(" Ticket #" + ticket.getId() + " ").color(ChatColor.YELLOW).strikethrough(false);
+            componentBuilder.append("----------").color(ChatColor.GREEN).strikethrough(true);
+            componentBuilder.append("\n", ComponentBuilder.FormatRetention.NONE);
+            
+            componentBuilder.append("Time").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
+            componentBuilder.append(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getDateFormat).flatMap(pattern -> Toolbox.formatInstant(pattern, ticket.getTimestamp())).orElse("Unknown"));
+            
             componentBuilder.append("\n");
-            componentBuilder.append("Comments").color(ChatColor.AQUA).append(":").color(ChatColor.WHITE);
-            sender.sendMessage(componentBuilder.create());
+            componentBuilder.append("Status").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
+            if (ticket.getStatus() == 0) {
+                componentBuilder.append("Open").color(ChatColor.GREEN);
+            } else if (ticket.getStatus() == 1) {
+                componentBuilder.append("Closed").color(ChatColor.RED);
+            }
             
-            ticket.getComments().forEach(comment -> sender.sendMessage(buildComment(comment)));
-        } else {
-            sender.sendMessage(componentBuilder.create());
-        }
+            componentBuilder.append("\n");
+            componentBuilder.append("User").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
+            UserData user = users.get(ticket.getUser());
+            if (user != null) {
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    componentBuilder.append(user.getName()).color(ChatColor.GREEN);
+                } else {
+                    componentBuilder.append(user.getName()).color(ChatColor.RED);
+                }
+            } else {
+                componentBuilder.append("Unknown").color(ChatColor.WHITE);
+            }
+            
+            componentBuilder.append("\n");
+            componentBuilder.append("Location").color(ChatColor.AQUA).append(": ").color(ChatColor.WHITE);
+            
+            if (ticket.getLocation().getX() != null && ticket.getLocation().getY() != null && ticket.getLocation().getZ() != null) {
+                componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getX(), 3)).color(ChatColor.WHITE).append(", ").color(ChatColor.GRAY);
+                componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getY(), 3)).color(ChatColor.WHITE).append(", ").color(ChatColor.GRAY);
+                componentBuilder.append("" + Toolbox.formatDecimal(ticket.getLocation().getZ(), 3)).color(ChatColor.WHITE).append(" @ ").color(ChatColor.GRAY);
+            }
+            
+            componentBuilder.append(StringUtils.defaultIfBlank(ticket.getLocation().getServer(), "Unknown")).color(ChatColor.WHITE);
+            if (ticket.getLocation().getDimension() != null) {
+                componentBuilder.append(" (").color(ChatColor.GRAY).append("" + ticket.getLocation().getDimension()).color(ChatColor.WHITE).append(")").color(ChatColor.GRAY);
+            }
+            
+            componentBuilder.append("\n");
+            componentBuilder.append("Message").color(ChatColor.AQUA).append(": " + ticket.getText()).color(ChatColor.WHITE);
+            if (!ticket.getComments().isEmpty()) {
+                componentBuilder.append("\n");
+                componentBuilder.append("Comments").color(ChatColor.AQUA).append(":").color(ChatColor.WHITE);
+                sender.sendMessage(componentBuilder.create());
+                
+                ticket.getComments().forEach(comment -> sender.sendMessage(buildComment(comment, users.get(comment.getUser()))));
+            } else {
+                sender.sendMessage(componentBuilder.create());
+            }
+        }).exceptionally(this::handleException);
     }
     
-    private BaseComponent[] buildComment(CommentData comment) {
+    private BaseComponent[] buildComment(CommentData comment, UserData user) {
         ComponentBuilder componentBuilder = new ComponentBuilder("");
         componentBuilder.append(Toolbox.getShortTimeString(System.currentTimeMillis() - comment.getTimestamp().toEpochMilli())).color(ChatColor.GREEN);
         componentBuilder.append(" by ").color(ChatColor.GOLD);
-        
-        UserData user = DataManager.getUser(comment.getUser()).orElse(null);
         if (user != null) {
             if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
                 componentBuilder.append(user.getName()).color(ChatColor.GREEN);
@@ -190,27 +237,4 @@ public class ReadCommand extends AbstractCommand {
         componentBuilder.append(comment.getText()).color(ChatColor.GRAY);
         return componentBuilder.create();
     }
-    
-    private BaseComponent[] buildTicket(TicketData ticket) {
-        ComponentBuilder componentBuilder = new ComponentBuilder("")
-                .event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read " + ticket.getId()))
-                .append("#" + ticket.getId()).color(ChatColor.GOLD)
-                .append(" " + Toolbox.getShortTimeString(System.currentTimeMillis() - ticket.getTimestamp().toEpochMilli())).color(ChatColor.GREEN)
-                .append(" by ").color(ChatColor.GOLD);
-        
-        UserData user = DataManager.getCachedUser(ticket.getUser()).orElse(null);
-        if (user != null) {
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                componentBuilder.append(user.getName()).color(ChatColor.GREEN);
-            } else {
-                componentBuilder.append(user.getName()).color(ChatColor.RED);
-            }
-        } else {
-            componentBuilder.append("Unknown").color(ChatColor.WHITE);
-        }
-        
-        componentBuilder.append(" - ").color(ChatColor.GOLD);
-        componentBuilder.append(Toolbox.substring(ticket.getText(), 20)).color(ChatColor.GRAY);
-        return componentBuilder.create();
-    }
 }
\ No newline at end of file
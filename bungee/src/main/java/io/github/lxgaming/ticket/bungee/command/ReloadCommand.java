@@ -16,6 +16,7 @@
 
 package io.github.lxgaming.ticket.bungee.command;
 
+import io.github.lxgaming.ticket.bungee.BungeePlugin;
 import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
@@ -35,10 +36,17 @@ public class ReloadCommand extends AbstractCommand {
     @Override
     public void execute(Object object, List<String> arguments) {
         CommandSender sender = (CommandSender) object;
-        if (TicketImpl.getInstance().reloadTicket()) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Configuration reloaded").color(ChatColor.GREEN).create());
-        } else {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error occurred. Please check the console").color(ChatColor.RED).create());
-        }
+        TicketImpl.getInstance().reloadTicketAsync().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                handleException(throwable);
+            }
+            
+            if (result != null && result) {
+                BungeePlugin.getInstance().getProxy().getPlayers().forEach(BungeeToolbox::updateNotifications);
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Configuration reloaded").color(ChatColor.GREEN).create());
+            } else {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error occurred. Please check the console").color(ChatColor.RED).create());
+            }
+        });
     }
 }
\ No newline at end of file
@@ -20,10 +20,10 @@ import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.TicketData;
 import io.github.lxgaming.ticket.bungee.BungeePlugin;
 import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketReopenMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
@@ -56,39 +56,40 @@ public class ReopenCommand extends AbstractCommand {
             return;
         }
         
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket doesn't exist").color(ChatColor.RED).create());
-            return;
-        }
-        
-        if (ticket.getStatus() == 0) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket is already open").color(ChatColor.RED).create());
-            return;
-        }
-        
-        ticket.setStatus(0);
-        ticket.setRead(false);
-        if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
-            return;
-        }
-        
-        BungeeToolbox.sendRedisMessage("TicketReopen", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.addProperty("by", Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown"));
-        });
-        
-        BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
-                .append("Ticket #" + ticket.getId() + " was reopened by ").color(ChatColor.GOLD)
-                .append(Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")).color(ChatColor.YELLOW)
-                .create();
-        
-        ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
-        if (player != null) {
-            player.sendMessage(baseComponents);
-        }
-        
-        BungeeToolbox.broadcast(player, "ticket.reopen.notify", baseComponents);
+        DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+            TicketData ticket = optionalTicket.orElse(null);
+            if (ticket == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket doesn't exist").color(ChatColor.RED).create());
+                return;
+            }
+            
+            if (ticket.getStatus() == 0) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Ticket is already open").color(ChatColor.RED).create());
+                return;
+            }
+            
+            ticket.setStatus(0);
+            ticket.setRead(false);
+            DataManager.updateTicket(ticket).thenAccept(result -> {
+                if (!result) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                MessageManager.sendMessage(new TicketReopenMessage(ticket.getId(), ticket.getStatus(), ticket.isRead(), ticket.getVersion(), Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")));
+                
+                BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
+                        .append("Ticket #" + ticket.getId() + " was reopened by ").color(ChatColor.GOLD)
+                        .append(Ticket.getInstance().getPlatform().getUsername(BungeeToolbox.getUniqueId(sender)).orElse("Unknown")).color(ChatColor.YELLOW)
+                        .create();
+                
+                ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
+                if (player != null) {
+                    player.sendMessage(baseComponents);
+                }
+                
+                BungeeToolbox.broadcast(player, "ticket.reopen.notify", baseComponents);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.bungee.command;
+
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.storage.SearchIndex;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.chat.ComponentBuilder;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+public class SearchCommand extends AbstractCommand {
+    
+    public SearchCommand() {
+        addAlias("search");
+        addAlias("find");
+        setDescription("Searches ticket messages and comments");
+        setPermission("ticket.search.base");
+        setUsage("<Terms> [page <Page>]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSender sender = (CommandSender) object;
+        if (arguments.isEmpty()) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Invalid arguments: " + getUsage()).color(ChatColor.RED).create());
+            return;
+        }
+        
+        int page = 1;
+        // The page is an explicit suffix so numeric search terms are never mistaken for it
+        int size = arguments.size();
+        if (size > 2 && StringUtils.equalsIgnoreCase(arguments.get(size - 2), "page") && Toolbox.parseInteger(arguments.get(size - 1)).isPresent()) {
+            page = Toolbox.parseInteger(arguments.remove(size - 1)).get();
+            arguments.remove(size - 2);
+        }
+        
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        if (page < 1 || (long) page * (pageSize + 1) > Integer.MAX_VALUE) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Invalid page").color(ChatColor.RED).create());
+            return;
+        }
+        
+        String query = String.join(" ", arguments);
+        if (SearchIndex.getTerms(query).isEmpty()) {
+            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Search terms are too short").color(ChatColor.RED).create());
+            return;
+        }
+        
+        int currentPage = page;
+        
+        // Requests one additional result to determine whether there is a next page
+        DataManager.searchTickets(query, (page - 1) * pageSize, pageSize + 1).thenAccept(optionalTickets -> {
+            List<TicketData> tickets = optionalTickets.orElse(null);
+            if (tickets == null) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("An error has occurred. Details are available in console.").color(ChatColor.RED).create());
+                return;
+            }
+            
+            if (tickets.isEmpty()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("No tickets matched your search").color(ChatColor.YELLOW).create());
+                return;
+            }
+            
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" Search Results ").color(ChatColor.YELLOW).strikethrough(false)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            
+            tickets.stream().limit(pageSize).forEach(ticket -> sender.sendMessage(BungeeToolbox.buildTicket(ticket)));
+            sender.sendMessage(BungeeToolbox.buildPagination(currentPage, tickets.size() > pageSize, value -> "/" + Reference.ID + " search " + query + " page " + value));
+        }).exceptionally(this::handleException);
+    }
+}
\ No newline at end of file
@@ -63,46 +63,51 @@ public class UserCommand extends AbstractCommand {
                 return;
             }
             
-            UserData user = DataManager.getUser(uniqueId).orElse(null);
-            if (user == null) {
-                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find user").color(ChatColor.RED).create());
-                return;
-            }
+            DataManager.getUser(uniqueId).thenAccept(optionalUser -> {
+                UserData user = optionalUser.orElse(null);
+                if (user == null) {
+                    sender.sendMessage(BungeeToolbox.getTextPrefix().append("Failed to find user").color(ChatColor.RED).create());
+                    return;
+                }
+                
+                sender.sendMessage(buildUserInfo(user));
+            }).exceptionally(this::handleException);
             
-            sender.sendMessage(buildUserInfo(user));
-            return;
-        }
-        
-        Collection<UserData> users = DataManager.getUsers(data).orElse(null);
-        if (users == null || users.isEmpty()) {
-            sender.sendMessage(BungeeToolbox.getTextPrefix().append("Fail to find users by the name of ").color(ChatColor.RED).append(data).color(ChatColor.YELLOW).create());
             return;
         }
         
-        if (users.size() == 1) {
-            sender.sendMessage(buildUserInfo(users.iterator().next()));
-            return;
-        }
-        
-        sender.sendMessage(new ComponentBuilder("")
-                .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                .append(" Users ").color(ChatColor.GREEN).strikethrough(false)
-                .append("----------").color(ChatColor.GREEN).strikethrough(true)
-                .create());
-        for (UserData user : users) {
-            ComponentBuilder componentBuilder = new ComponentBuilder("");
-            componentBuilder.event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " " + getPrimaryAlias().orElse("unknown") + " " + user.getUniqueId()));
-            componentBuilder.append("> ").color(ChatColor.BLUE);
+        DataManager.getUsers(data).thenAccept(optionalUsers -> {
+            Collection<UserData> users = optionalUsers.orElse(null);
+            if (users == null || users.isEmpty()) {
+                sender.sendMessage(BungeeToolbox.getTextPrefix().append("Fail to find users by the name of ").color(ChatColor.RED).append(data).color(ChatColor.YELLOW).create());
+                return;
+            }
             
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                componentBuilder.append(user.getName()).color(ChatColor.GREEN);
-            } else {
-                componentBuilder.append(user.getName()).color(ChatColor.RED);
+            if (users.size() == 1) {
+                sender.sendMessage(buildUserInfo(users.iterator().next()));
+                return;
             }
             
-            componentBuilder.append(" (").color(ChatColor.DARK_GRAY).append(user.getUniqueId().toString()).color(ChatColor.GRAY).append(")").color(ChatColor.DARK_GRAY);
-            sender.sendMessage(componentBuilder.create());
-        }
+            sender.sendMessage(new ComponentBuilder("")
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .append(" Users ").color(ChatColor.GREEN).strikethrough(false)
+                    .append("----------").color(ChatColor.GREEN).strikethrough(true)
+                    .create());
+            for (UserData user : users) {
+                ComponentBuilder componentBuilder = new ComponentBuilder("");
+                componentBuilder.event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " " + getPrimaryAlias().orElse("unknown") + " " + user.getUniqueId()));
+                componentBuilder.append("> ").color(ChatColor.BLUE);
+                
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    componentBuilder.append(user.getName()).color(ChatColor.GREEN);
+                } else {
+                    componentBuilder.append(user.getName()).color(ChatColor.RED);
+                }
+                
+                componentBuilder.append(" (").color(ChatColor.DARK_GRAY).append(user.getUniqueId().toString()).color(ChatColor.GRAY).append(")").color(ChatColor.DARK_GRAY);
+                sender.sendMessage(componentBuilder.create());
+            }
+        }).exceptionally(this::handleException);
     }
     
     private BaseComponent[] buildUserInfo(UserData user) {
@@ -143,6 +148,12 @@ public class UserCommand extends AbstractCommand {
                 .append("[").color(ChatColor.GOLD).append("Pardon").color(ChatColor.GREEN).append("]").color(ChatColor.GOLD)
                 .create());
         
+        componentBuilder.append(" ", ComponentBuilder.FormatRetention.NONE);
+        componentBuilder.append(new ComponentBuilder("")
+                .event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " history " + user.getUniqueId()))
+                .append("[").color(ChatColor.GOLD).append("History").color(ChatColor.AQUA).append("]").color(ChatColor.GOLD)
+                .create());
+        
         componentBuilder.append("", ComponentBuilder.FormatRetention.NONE);
         return componentBuilder.create();
     }
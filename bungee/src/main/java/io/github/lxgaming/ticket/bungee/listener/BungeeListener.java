@@ -19,7 +19,6 @@ package io.github.lxgaming.ticket.bungee.listener;
 import com.google.common.collect.Lists;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.TicketData;
-import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.bungee.BungeePlugin;
 import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
@@ -28,6 +27,10 @@ import io.github.lxgaming.ticket.common.command.AbstractCommand;
 import io.github.lxgaming.ticket.common.configuration.Config;
 import io.github.lxgaming.ticket.common.manager.CommandManager;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.NotificationManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.PresenceUpdateMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.ClickEvent;
@@ -36,6 +39,7 @@ import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.ChatEvent;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
+import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.event.EventHandler;
 import org.apache.commons.lang3.StringUtils;
@@ -48,6 +52,9 @@ public class BungeeListener implements Listener {
     
     @EventHandler
     public void onPostLogin(PostLoginEvent event) {
+        PresenceManager.addUser(event.getPlayer().getUniqueId());
+        MessageManager.sendMessage(new PresenceUpdateMessage(event.getPlayer().getUniqueId(), true));
+        BungeeToolbox.updateNotifications(event.getPlayer());
         BungeePlugin.getInstance().getProxy().getScheduler().schedule(BungeePlugin.getInstance(), () -> {
             if (!event.getPlayer().isConnected()) {
                 return;
@@ -67,42 +74,41 @@ public class BungeeListener implements Listener {
                 }
             }
             
-            UserData user = DataManager.getUser(event.getPlayer().getUniqueId()).orElse(null);
-            if (user == null) {
-                return;
-            }
-            
-            if (!StringUtils.equals(user.getName(), event.getPlayer().getName())) {
-                Ticket.getInstance().getLogger().debug("Updating username: {} -> {}", user.getName(), event.getPlayer().getName());
-                user.setName(event.getPlayer().getName());
-                if (!TicketImpl.getInstance().getStorage().getQuery().updateUser(user)) {
-                    Ticket.getInstance().getLogger().warn("Failed to update {} ({})", user.getName(), user.getUniqueId());
+            DataManager.queueLogin(event.getPlayer().getUniqueId(), event.getPlayer().getName()).thenAccept(optionalTickets -> {
+                Collection<TicketData> tickets = optionalTickets.orElse(null);
+                if (tickets == null || tickets.isEmpty() || !event.getPlayer().isConnected()) {
+                    return;
                 }
-            }
-            
-            Collection<TicketData> tickets = DataManager.getUnreadTickets(user.getUniqueId()).orElse(null);
-            if (tickets == null || tickets.isEmpty()) {
-                return;
-            }
-            
-            ComponentBuilder componentBuilder = new ComponentBuilder("");
-            componentBuilder.append(BungeeToolbox.getTextPrefix().create());
-            componentBuilder.append(new ComponentBuilder("")
-                    .event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read"))
-                    .append("You have " + tickets.size() + " unread " + Toolbox.formatUnit(tickets.size(), "ticket", "tickets")).color(ChatColor.GOLD)
-                    .create());
-            
-            event.getPlayer().sendMessage(componentBuilder.create());
+                
+                ComponentBuilder componentBuilder = new ComponentBuilder("");
+                componentBuilder.append(BungeeToolbox.getTextPrefix().create());
+                componentBuilder.append(new ComponentBuilder("")
+                        .event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read"))
+                        .append("You have " + tickets.size() + " unread " + Toolbox.formatUnit(tickets.size(), "ticket", "tickets")).color(ChatColor.GOLD)
+                        .create());
+                
+                event.getPlayer().sendMessage(componentBuilder.create());
+            });
         }, TicketImpl.getInstance().getConfig().map(Config::getLoginDelay).orElse(0L), TimeUnit.MILLISECONDS);
     }
     
     @EventHandler
     public void onPlayerDisconnect(PlayerDisconnectEvent event) {
+        PresenceManager.removeUser(event.getPlayer().getUniqueId());
+        MessageManager.sendMessage(new PresenceUpdateMessage(event.getPlayer().getUniqueId(), false));
+        NotificationManager.removeUser(event.getPlayer().getUniqueId());
+        
         // Forces the expiry to be recalculated
         DataManager.getCachedUser(event.getPlayer().getUniqueId());
         DataManager.getCachedUnreadTickets(event.getPlayer().getUniqueId());
     }
     
+    @EventHandler
+    public void onServerSwitch(ServerSwitchEvent event) {
+        // Permissions may be contextual to the server the player is connected to
+        BungeeToolbox.updateNotifications(event.getPlayer());
+    }
+    
     @EventHandler
     public void onPlayerChat(ChatEvent event) {
         if (!event.isCommand() || !(event.getSender() instanceof ProxiedPlayer)) {
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.bungee.listener;
+
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.bungee.BungeePlugin;
+import io.github.lxgaming.ticket.bungee.util.BungeeToolbox;
+import io.github.lxgaming.ticket.common.listener.AbstractMessageListener;
+import net.md_5.bungee.api.ChatColor;
+import net.md_5.bungee.api.chat.BaseComponent;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
+
+public class MessageListener extends AbstractMessageListener {
+    
+    @Override
+    protected void onTicketClose(TicketData ticket, UserData user) {
+        BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
+                .append("Ticket #" + ticket.getId() + " was closed by ").color(ChatColor.GOLD)
+                .append(user.getName()).color(ChatColor.YELLOW).create();
+        
+        ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
+        if (player != null) {
+            player.sendMessage(baseComponents);
+        }
+        
+        BungeeToolbox.broadcast(player, "ticket.close.notify", baseComponents);
+    }
+    
+    @Override
+    protected void onTicketComment(TicketData ticket, UserData user) {
+        BaseComponent[] baseComponents = BungeeToolbox.getTextPrefix()
+                .append(user.getName()).color(ChatColor.YELLOW)
+                .append(" added a comment to Ticket #" + ticket.getId()).color(ChatColor.GOLD).create();
+        
+        ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(ticket.getUser());
+        if (player != null) {
+            player.sendMessage(baseComponents);
+        }
+        
+        BungeeToolbox.broadcast(player, "ticket.comment.notify", baseComponents);
+    }
+    
+    @Override
+    protected void onTicketOpen(TicketData ticket, UserData user) {
+        BungeeToolbox.broadcast(null, "ticket.open.notify", BungeeToolbox.getTextPrefix()
+                .append("A new ticket has been opened by ").color(ChatColor.GREEN)
+                .append(user.getName()).color(ChatColor.YELLOW)
+                .append(", id assigned #" + ticket.getId()).color(ChatColor.GREEN).create());
+    }
+    
+    @Override
+    protected void onTicketReopen(TicketData ticket, String sender) {
+        BungeeToolbox.broadcast(null, "ticket.reopen.notify", BungeeToolbox.getTextPrefix()
+                .append("Ticket #" + ticket.getId() + " was reopened by ").color(ChatColor.GOLD)
+                .append(sender).color(ChatColor.YELLOW).create());
+    }
+    
+    @Override
+    protected void onUserBan(UserData user, String sender) {
+        BungeeToolbox.broadcast(null, "ticket.ban.notify", BungeeToolbox.getTextPrefix()
+                .append(user.getName()).color(ChatColor.YELLOW)
+                .append(" was banned by ").color(ChatColor.GREEN)
+                .append(sender).color(ChatColor.YELLOW).create());
+    }
+    
+    @Override
+    protected void onUserPardon(UserData user, String sender) {
+        BungeeToolbox.broadcast(null, "ticket.pardon.notify", BungeeToolbox.getTextPrefix()
+                .append(user.getName()).color(ChatColor.YELLOW)
+                .append(" was pardoned by ").color(ChatColor.GREEN)
+                .append(sender).color(ChatColor.YELLOW).create());
+    }
+}
\ No newline at end of file
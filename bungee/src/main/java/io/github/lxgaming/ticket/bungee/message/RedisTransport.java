@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.bungee.message;
+
+import com.imaginarycode.minecraft.redisbungee.RedisBungee;
+import com.imaginarycode.minecraft.redisbungee.events.PubSubMessageEvent;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.bungee.BungeePlugin;
+import io.github.lxgaming.ticket.common.message.MessageTransport;
+import net.md_5.bungee.api.plugin.Listener;
+import net.md_5.bungee.event.EventHandler;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.function.Consumer;
+
+public class RedisTransport implements MessageTransport, Listener {
+    
+    private volatile Consumer<String> consumer;
+    
+    @Override
+    public void start(Consumer<String> consumer) {
+        this.consumer = consumer;
+        BungeePlugin.getInstance().getProxy().getPluginManager().registerListener(BungeePlugin.getInstance(), this);
+        RedisBungee.getApi().registerPubSubChannels(Reference.ID);
+    }
+    
+    @Override
+    public void send(String message) {
+        RedisBungee.getApi().sendChannelMessage(Reference.ID, message);
+    }
+    
+    @Override
+    public void shutdown() {
+        RedisBungee.getApi().unregisterPubSubChannels(Reference.ID);
+        BungeePlugin.getInstance().getProxy().getPluginManager().unregisterListener(this);
+        this.consumer = null;
+    }
+    
+    @EventHandler
+    public void onPubSubMessage(PubSubMessageEvent event) {
+        if (StringUtils.isBlank(event.getChannel()) || !event.getChannel().equals(Reference.ID)) {
+            return;
+        }
+        
+        Consumer<String> consumer = this.consumer;
+        if (consumer != null) {
+            consumer.accept(event.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -16,28 +16,33 @@
 
 package io.github.lxgaming.ticket.bungee.util;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.imaginarycode.minecraft.redisbungee.RedisBungee;
+import com.google.common.collect.ObjectArrays;
 import io.github.lxgaming.ticket.api.Platform;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.bungee.BungeePlugin;
-import io.github.lxgaming.ticket.common.TicketImpl;
-import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.cache.RenderCache;
+import io.github.lxgaming.ticket.common.manager.NotificationManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.ClickEvent;
 import net.md_5.bungee.api.chat.ComponentBuilder;
 import net.md_5.bungee.api.chat.HoverEvent;
+import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Collection;
 import java.util.UUID;
-import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 public class BungeeToolbox {
     
+    private static final RenderCache<BaseComponent[][]> TICKET_RENDER_CACHE = new RenderCache<>(BungeeToolbox::renderTicket);
+    
     public static ComponentBuilder getTextPrefix() {
         ComponentBuilder componentBuilder = new ComponentBuilder("");
         componentBuilder.event(new HoverEvent(HoverEvent.Action.SHOW_TEXT, getPluginInformation().create()));
@@ -64,18 +69,74 @@ public class BungeeToolbox {
         return componentBuilder;
     }
     
-    public static void sendRedisMessage(String type, Consumer<JsonObject> consumer) {
-        if (BungeePlugin.getInstance().getProxy().getPluginManager().getPlugin("RedisBungee") != null) {
-            JsonObject jsonObject = new JsonObject();
-            jsonObject.addProperty("id", TicketImpl.getInstance().getConfig().map(Config::getProxyId).orElse(null));
-            jsonObject.addProperty("type", type);
-            consumer.accept(jsonObject);
-            RedisBungee.getApi().sendChannelMessage(Reference.ID, new Gson().toJson(jsonObject));
+    public static BaseComponent[] buildTicket(TicketData ticket) {
+        BaseComponent[][] components = TICKET_RENDER_CACHE.get(ticket);
+        
+        // Only the relative time changes between invocations
+        TextComponent time = new TextComponent(" " + Toolbox.getShortTimeString(System.currentTimeMillis() - ticket.getTimestamp().toEpochMilli()));
+        time.setColor(ChatColor.GREEN);
+        time.setClickEvent(components[0][0].getClickEvent());
+        return ObjectArrays.concat(ObjectArrays.concat(components[0], time), components[1], BaseComponent.class);
+    }
+    
+    private static BaseComponent[][] renderTicket(TicketData ticket, UserData user, boolean online) {
+        ClickEvent clickEvent = new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read " + ticket.getId());
+        BaseComponent[] prefix = new ComponentBuilder("")
+                .event(clickEvent)
+                .append("#" + ticket.getId()).color(ChatColor.GOLD)
+                .create();
+        
+        ComponentBuilder componentBuilder = new ComponentBuilder("")
+                .event(clickEvent)
+                .append(" by ").color(ChatColor.GOLD);
+        
+        if (user != null) {
+            if (online) {
+                componentBuilder.append(user.getName()).color(ChatColor.GREEN);
+            } else {
+                componentBuilder.append(user.getName()).color(ChatColor.RED);
+            }
+        } else {
+            componentBuilder.append("Unknown").color(ChatColor.WHITE);
         }
+        
+        componentBuilder.append(" - ").color(ChatColor.GOLD);
+        componentBuilder.append(Toolbox.substring(ticket.getText(), 20)).color(ChatColor.GRAY);
+        return new BaseComponent[][]{prefix, componentBuilder.create()};
+    }
+    
+    public static BaseComponent[] buildPagination(int page, boolean hasNext, IntFunction<String> command) {
+        ComponentBuilder componentBuilder = new ComponentBuilder("");
+        if (page > 1) {
+            componentBuilder.append("« Previous").color(ChatColor.GOLD).event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command.apply(page - 1)));
+        } else {
+            componentBuilder.append("« Previous").color(ChatColor.DARK_GRAY);
+        }
+        
+        componentBuilder.append(" | Page " + page + " | ", ComponentBuilder.FormatRetention.NONE).color(ChatColor.YELLOW);
+        if (hasNext) {
+            componentBuilder.append("Next »").color(ChatColor.GOLD).event(new ClickEvent(ClickEvent.Action.RUN_COMMAND, command.apply(page + 1)));
+        } else {
+            componentBuilder.append("Next »").color(ChatColor.DARK_GRAY);
+        }
+        
+        return componentBuilder.create();
     }
     
     public static void broadcast(CommandSender sender, String permission, BaseComponent[] message) {
         BungeePlugin.getInstance().getProxy().getConsole().sendMessage(message);
+        Collection<UUID> recipients = NotificationManager.getRecipients(permission).orElse(null);
+        if (recipients != null) {
+            for (UUID uniqueId : recipients) {
+                ProxiedPlayer player = BungeePlugin.getInstance().getProxy().getPlayer(uniqueId);
+                if (player != null && player != sender) {
+                    player.sendMessage(message);
+                }
+            }
+            
+            return;
+        }
+        
         for (ProxiedPlayer player : BungeePlugin.getInstance().getProxy().getPlayers()) {
             if (player != sender && (StringUtils.isBlank(permission) || player.hasPermission(permission))) {
                 player.sendMessage(message);
@@ -83,6 +144,10 @@ public class BungeeToolbox {
         }
     }
     
+    public static void updateNotifications(ProxiedPlayer player) {
+        NotificationManager.addUser(player.getUniqueId(), player::hasPermission);
+    }
+    
     public static UUID getUniqueId(CommandSender sender) {
         if (sender instanceof ProxiedPlayer) {
             return ((ProxiedPlayer) sender).getUniqueId();
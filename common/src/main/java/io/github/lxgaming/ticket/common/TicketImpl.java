@@ -17,24 +17,52 @@
 package io.github.lxgaming.ticket.common;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.github.lxgaming.ticket.api.Platform;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.common.configuration.Config;
 import io.github.lxgaming.ticket.common.configuration.Configuration;
+import io.github.lxgaming.ticket.common.configuration.category.StorageCategory;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
+import io.github.lxgaming.ticket.common.message.PresenceUpdateMessage;
+import io.github.lxgaming.ticket.common.message.TicketCloseMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
+import io.github.lxgaming.ticket.common.message.TicketReopenMessage;
+import io.github.lxgaming.ticket.common.message.UserBanMessage;
+import io.github.lxgaming.ticket.common.message.UserPardonMessage;
+import io.github.lxgaming.ticket.common.storage.AsyncQuery;
+import io.github.lxgaming.ticket.common.storage.LoginQueue;
 import io.github.lxgaming.ticket.common.storage.Storage;
+import io.github.lxgaming.ticket.common.storage.WriteBehindQueue;
+import io.github.lxgaming.ticket.common.storage.h2.H2Storage;
+import io.github.lxgaming.ticket.common.storage.memory.MemoryStorage;
 import io.github.lxgaming.ticket.common.storage.mysql.MySQLStorage;
 import io.github.lxgaming.ticket.common.util.LoggerImpl;
+import io.github.lxgaming.ticket.common.util.Toolbox;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 public class TicketImpl extends Ticket {
     
     private final Configuration configuration;
-    private final Storage storage;
+    private volatile Storage storage;
+    private final AsyncQuery asyncQuery;
+    private final WriteBehindQueue writeBehindQueue;
+    private final LoginQueue loginQueue;
+    private final ExecutorService reloadExecutor;
     private final Map<String, String> legacyCommands;
     
     public TicketImpl(Platform platform) {
@@ -42,16 +70,48 @@ public class TicketImpl extends Ticket {
         this.platform = platform;
         this.logger = new LoggerImpl();
         this.configuration = new Configuration();
-        this.storage = new MySQLStorage();
+        this.asyncQuery = new AsyncQuery();
+        this.writeBehindQueue = new WriteBehindQueue();
+        this.loginQueue = new LoginQueue();
+        this.reloadExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(Reference.ID + "-reload-%d")
+                .build());
         this.legacyCommands = Maps.newHashMap();
     }
     
     public void loadTicket() {
         getLogger().info("Initializing...");
+        MessageManager.registerMessage("Presence", PresenceMessage.class, new PresenceMessage.Codec());
+        MessageManager.registerMessage("PresenceUpdate", PresenceUpdateMessage.class, new PresenceUpdateMessage.Codec());
+        MessageManager.registerMessage("TicketClose", TicketCloseMessage.class, new TicketCloseMessage.Codec());
+        MessageManager.registerMessage("TicketComment", TicketCommentMessage.class, new TicketCommentMessage.Codec());
+        MessageManager.registerMessage("TicketOpen", TicketOpenMessage.class, new TicketOpenMessage.Codec());
+        MessageManager.registerMessage("TicketReopen", TicketReopenMessage.class, new TicketReopenMessage.Codec());
+        MessageManager.registerMessage("UserBan", UserBanMessage.class, new UserBanMessage.Codec());
+        MessageManager.registerMessage("UserPardon", UserPardonMessage.class, new UserPardonMessage.Codec());
         reloadTicket();
         getLogger().info("{} v{} has loaded", Reference.NAME, Reference.VERSION);
     }
     
+    public CompletableFuture<Boolean> reloadTicketAsync() {
+        // Reloading blocks on the storage executor so it runs on its own thread, which also serializes concurrent reloads
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        try {
+            getReloadExecutor().execute(() -> {
+                try {
+                    future.complete(reloadTicket());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        
+        return future;
+    }
+    
     public boolean reloadTicket() {
         getConfiguration().loadConfiguration();
         if (!getConfig().isPresent()) {
@@ -78,6 +138,25 @@ public class TicketImpl extends Ticket {
             getLegacyCommands().put(StringUtils.defaultIfBlank(command.getReopenTicket(), ""), "reopen");
         });
         
+        Class<? extends Storage> storageClass = getStorageClass(getConfig().map(Config::getStorage).map(StorageCategory::getType).orElse(null));
+        if (storageClass == null) {
+            getLogger().error("Unsupported storage type");
+            return false;
+        }
+        
+        if (getStorage() == null || getStorage().getClass() != storageClass) {
+            if (getStorage() != null && !getStorage().isClosed()) {
+                getWriteBehindQueue().flush();
+                getStorage().close();
+            }
+            
+            storage = Toolbox.newInstance(storageClass).orElse(null);
+            if (getStorage() == null) {
+                getLogger().error("Failed to create {}", storageClass.getSimpleName());
+                return false;
+            }
+        }
+        
         try {
             if (!getStorage().connect()) {
                 getLogger().error("Connection failed");
@@ -93,16 +172,68 @@ public class TicketImpl extends Ticket {
             return false;
         }
         
-        DataManager.getTicketCache().invalidateAll();
-        DataManager.getUserCache().invalidateAll();
-        DataManager.getOpenTickets().ifPresent(tickets -> {
-            tickets.forEach(ticket -> DataManager.getUser(ticket.getUser()));
+        if (!getAsyncQuery().isRunning()) {
+            getAsyncQuery().start(getConfig().map(Config::getStorage).map(StorageCategory::getExecutorSize).orElse(2));
+        }
+        
+        if (!getWriteBehindQueue().isRunning()) {
+            getWriteBehindQueue().start(getConfig().map(Config::getStorage).map(StorageCategory::getFlushInterval).orElse(5000L));
+        }
+        
+        if (!getLoginQueue().isRunning()) {
+            getLoginQueue().start(getConfig().map(Config::getStorage).map(StorageCategory::getLoginInterval).orElse(250L));
+        }
+        
+        DataManager.invalidateAll();
+        DataManager.getOpenTickets().join().ifPresent(tickets -> {
+            Collection<UUID> uniqueIds = Sets.newHashSet();
+            tickets.forEach(ticket -> {
+                uniqueIds.add(ticket.getUser());
+                ticket.getComments().forEach(comment -> uniqueIds.add(comment.getUser()));
+            });
+            
+            DataManager.getUsers(uniqueIds).join();
             getLogger().info("Loaded {} open tickets", tickets.size());
         });
         
         return true;
     }
     
+    public void unloadTicket() {
+        getReloadExecutor().shutdown();
+        if (getLoginQueue().isRunning()) {
+            getLoginQueue().shutdown();
+        }
+        
+        if (getWriteBehindQueue().isRunning()) {
+            getWriteBehindQueue().shutdown();
+        }
+        
+        if (getAsyncQuery().isRunning()) {
+            getAsyncQuery().shutdown();
+        }
+        
+        if (getStorage() != null && !getStorage().isClosed()) {
+            getStorage().close();
+        }
+    }
+    
+    private Class<? extends Storage> getStorageClass(String type) {
+        if (StringUtils.equalsIgnoreCase(type, "h2")) {
+            return H2Storage.class;
+        }
+        
+        if (StringUtils.equalsIgnoreCase(type, "mysql")) {
+            return MySQLStorage.class;
+        }
+        
+        if (StringUtils.equalsIgnoreCase(type, "memory")) {
+            return MemoryStorage.class;
+        }
+        
+        return null;
+    }
+    
     public static TicketImpl getInstance() {
         return (TicketImpl) Ticket.getInstance();
     }
@@ -123,6 +254,22 @@ public class TicketImpl extends Ticket {
         return storage;
     }
     
+    public AsyncQuery getAsyncQuery() {
+        return asyncQuery;
+    }
+    
+    public WriteBehindQueue getWriteBehindQueue() {
+        return writeBehindQueue;
+    }
+    
+    public LoginQueue getLoginQueue() {
+        return loginQueue;
+    }
+    
+    private ExecutorService getReloadExecutor() {
+        return reloadExecutor;
+    }
+    
     public Map<String, String> getLegacyCommands() {
         return legacyCommands;
     }
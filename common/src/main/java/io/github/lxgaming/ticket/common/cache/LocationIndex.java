@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class LocationIndex {
+    
+    private static final int CELL_SHIFT = 5;
+    private static final int UNKNOWN_DIMENSION = Integer.MIN_VALUE;
+    private final Map<String, NavigableSet<Integer>> ticketsByServer = Maps.newConcurrentMap();
+    private final Map<String, Map<Integer, Map<Long, Map<Integer, LocationData>>>> cells = Maps.newConcurrentMap();
+    
+    public void add(TicketData ticket) {
+        LocationData location = ticket.getLocation();
+        if (location == null || StringUtils.isBlank(location.getServer())) {
+            return;
+        }
+        
+        getTicketsByServer().computeIfAbsent(location.getServer(), key -> new ConcurrentSkipListSet<>()).add(ticket.getId());
+        if (hasPosition(location)) {
+            getCells().computeIfAbsent(location.getServer(), key -> Maps.newConcurrentMap())
+                    .computeIfAbsent(getDimension(location.getDimension()), key -> Maps.newConcurrentMap())
+                    .computeIfAbsent(getCell(location.getX(), location.getZ()), key -> Maps.newConcurrentMap())
+                    .put(ticket.getId(), location);
+        }
+    }
+    
+    public void remove(TicketData ticket) {
+        LocationData location = ticket.getLocation();
+        if (location == null || StringUtils.isBlank(location.getServer())) {
+            return;
+        }
+        
+        getTicketsByServer().computeIfPresent(location.getServer(), (key, ticketIds) -> {
+            ticketIds.remove(ticket.getId());
+            return ticketIds.isEmpty() ? null : ticketIds;
+        });
+        
+        if (!hasPosition(location)) {
+            return;
+        }
+        
+        Map<Integer, Map<Long, Map<Integer, LocationData>>> dimensions = getCells().get(location.getServer());
+        Map<Long, Map<Integer, LocationData>> cells = dimensions != null ? dimensions.get(getDimension(location.getDimension())) : null;
+        if (cells != null) {
+            cells.computeIfPresent(getCell(location.getX(), location.getZ()), (key, tickets) -> {
+                tickets.remove(ticket.getId());
+                return tickets.isEmpty() ? null : tickets;
+            });
+        }
+    }
+    
+    public void clear() {
+        getTicketsByServer().clear();
+        getCells().clear();
+    }
+    
+    public Collection<Integer> getTicketIds(String server) {
+        NavigableSet<Integer> ticketIds = StringUtils.isNotBlank(server) ? getTicketsByServer().get(server) : null;
+        if (ticketIds != null) {
+            return Collections.unmodifiableSet(ticketIds);
+        }
+        
+        return Collections.emptySet();
+    }
+    
+    public List<Integer> getTicketIds(LocationData location, double radius) {
+        if (location == null || !hasPosition(location) || StringUtils.isBlank(location.getServer())) {
+            return Collections.emptyList();
+        }
+        
+        Map<Integer, Map<Long, Map<Integer, LocationData>>> dimensions = getCells().get(location.getServer());
+        Map<Long, Map<Integer, LocationData>> cells = dimensions != null ? dimensions.get(getDimension(location.getDimension())) : null;
+        if (cells == null) {
+            return Collections.emptyList();
+        }
+        
+        int minimumX = (int) Math.floor(location.getX() - radius) >> CELL_SHIFT;
+        int maximumX = (int) Math.floor(location.getX() + radius) >> CELL_SHIFT;
+        int minimumZ = (int) Math.floor(location.getZ() - radius) >> CELL_SHIFT;
+        int maximumZ = (int) Math.floor(location.getZ() + radius) >> CELL_SHIFT;
+        
+        List<Neighbour> neighbours = Lists.newArrayList();
+        
+        // Large radii cover more cells than are occupied, walking the occupied cells is cheaper
+        if ((long) (maximumX - minimumX + 1) * (maximumZ - minimumZ + 1) > cells.size()) {
+            for (Map<Integer, LocationData> tickets : cells.values()) {
+                collect(tickets, location, radius, neighbours);
+            }
+        } else {
+            for (int cellX = minimumX; cellX <= maximumX; cellX++) {
+                for (int cellZ = minimumZ; cellZ <= maximumZ; cellZ++) {
+                    Map<Integer, LocationData> tickets = cells.get(getCell(cellX, cellZ));
+                    if (tickets != null) {
+                        collect(tickets, location, radius, neighbours);
+                    }
+                }
+            }
+        }
+        
+        neighbours.sort(Comparator.comparingDouble(Neighbour::getDistance));
+        List<Integer> ticketIds = Lists.newArrayListWithCapacity(neighbours.size());
+        for (Neighbour neighbour : neighbours) {
+            ticketIds.add(neighbour.getTicketId());
+        }
+        
+        return ticketIds;
+    }
+    
+    private void collect(Map<Integer, LocationData> tickets, LocationData location, double radius, List<Neighbour> neighbours) {
+        for (Map.Entry<Integer, LocationData> entry : tickets.entrySet()) {
+            double distance = getDistanceSquared(location, entry.getValue());
+            if (distance <= radius * radius) {
+                neighbours.add(new Neighbour(entry.getKey(), distance));
+            }
+        }
+    }
+    
+    private double getDistanceSquared(LocationData from, LocationData to) {
+        double x = from.getX() - to.getX();
+        double z = from.getZ() - to.getZ();
+        double y = from.getY() != null && to.getY() != null ? from.getY() - to.getY() : 0.0D;
+        return (x * x) + (y * y) + (z * z);
+    }
+    
+    private boolean hasPosition(LocationData location) {
+        return location.getX() != null && location.getZ() != null;
+    }
+    
+    private int getDimension(Integer dimension) {
+        return dimension != null ? dimension : UNKNOWN_DIMENSION;
+    }
+    
+    private long getCell(double x, double z) {
+        return getCell((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT);
+    }
+    
+    private long getCell(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+    
+    private Map<String, NavigableSet<Integer>> getTicketsByServer() {
+        return ticketsByServer;
+    }
+    
+    private Map<String, Map<Integer, Map<Long, Map<Integer, LocationData>>>> getCells() {
+        return cells;
+    }
+    
+    private static class Neighbour {
+        
+        private final Integer ticketId;
+        private final double distance;
+        
+        private Neighbour(Integer ticketId, double distance) {
+            this.ticketId = ticketId;
+            this.distance = distance;
+        }
+        
+        private Integer getTicketId() {
+            return ticketId;
+        }
+        
+        private double getDistance() {
+            return distance;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class RenderCache<T> {
+    
+    private final Cache<Integer, Entry<T>> cache = Caffeine.newBuilder().expireAfterAccess(10L, TimeUnit.MINUTES).maximumSize(1000L).build();
+    private final Renderer<T> renderer;
+    
+    public RenderCache(Renderer<T> renderer) {
+        this.renderer = renderer;
+    }
+    
+    public T get(TicketData ticket) {
+        UserData user = DataManager.getCachedUser(ticket.getUser()).orElse(null);
+        String name = user != null ? user.getName() : null;
+        boolean online = user != null && Ticket.getInstance().getPlatform().isOnline(user.getUniqueId());
+        
+        // A reloaded ticket, renamed owner or change in presence invalidates the entry
+        Entry<T> entry = cache.getIfPresent(ticket.getId());
+        if (entry != null && entry.getTicket() == ticket && Objects.equals(entry.getName(), name) && entry.isOnline() == online) {
+            return entry.getValue();
+        }
+        
+        T value = renderer.render(ticket, user, online);
+        cache.put(ticket.getId(), new Entry<>(ticket, name, online, value));
+        return value;
+    }
+    
+    public interface Renderer<T> {
+        
+        T render(TicketData ticket, UserData user, boolean online);
+    }
+    
+    private static class Entry<T> {
+        
+        private final TicketData ticket;
+        private final String name;
+        private final boolean online;
+        private final T value;
+        
+        private Entry(TicketData ticket, String name, boolean online, T value) {
+            this.ticket = ticket;
+            this.name = name;
+            this.online = online;
+            this.value = value;
+        }
+        
+        private TicketData getTicket() {
+            return ticket;
+        }
+        
+        private String getName() {
+            return name;
+        }
+        
+        private boolean isOnline() {
+            return online;
+        }
+        
+        private T getValue() {
+            return value;
+        }
+    }
+}
\ No newline at end of file
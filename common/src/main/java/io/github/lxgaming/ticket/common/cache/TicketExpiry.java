@@ -19,6 +19,7 @@ package io.github.lxgaming.ticket.common.cache;
 import com.github.benmanes.caffeine.cache.Expiry;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
 
 import java.time.Duration;
 
@@ -45,7 +46,7 @@ public class TicketExpiry implements Expiry<Integer, TicketData> {
             return Duration.ofNanos(Long.MAX_VALUE);
         }
         
-        if (ticket.getStatus() == 1 && !ticket.isRead() && Ticket.getInstance().getPlatform().isOnline(ticket.getUser())) {
+        if (ticket.getStatus() == 1 && !ticket.isRead() && PresenceManager.isOnline(ticket.getUser())) {
             Ticket.getInstance().getLogger().debug("TicketExpiry - #{} Infinite", ticket.getId());
             return Duration.ofNanos(Long.MAX_VALUE);
         }
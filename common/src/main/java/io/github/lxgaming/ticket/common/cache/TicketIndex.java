@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.cache;
+
+import com.google.common.collect.Maps;
+import io.github.lxgaming.ticket.api.data.TicketData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class TicketIndex {
+    
+    private final NavigableSet<Integer> openTickets = new ConcurrentSkipListSet<>();
+    private final Map<UUID, NavigableSet<Integer>> openTicketsByUser = Maps.newConcurrentMap();
+    private final Map<UUID, NavigableSet<Integer>> unreadTicketsByUser = Maps.newConcurrentMap();
+    private final LocationIndex locationIndex = new LocationIndex();
+    
+    public void index(TicketData ticket) {
+        if (ticket.getStatus() == 0) {
+            getOpenTickets().add(ticket.getId());
+            getLocationIndex().add(ticket);
+        } else {
+            getOpenTickets().remove(ticket.getId());
+            getLocationIndex().remove(ticket);
+        }
+        
+        update(getOpenTicketsByUser(), ticket.getUser(), ticket.getId(), ticket.getStatus() == 0);
+        update(getUnreadTicketsByUser(), ticket.getUser(), ticket.getId(), ticket.getStatus() == 1 && !ticket.isRead());
+    }
+    
+    public void remove(TicketData ticket) {
+        getOpenTickets().remove(ticket.getId());
+        getLocationIndex().remove(ticket);
+        update(getOpenTicketsByUser(), ticket.getUser(), ticket.getId(), false);
+        update(getUnreadTicketsByUser(), ticket.getUser(), ticket.getId(), false);
+    }
+    
+    public void clear() {
+        getOpenTickets().clear();
+        getOpenTicketsByUser().clear();
+        getUnreadTicketsByUser().clear();
+        getLocationIndex().clear();
+    }
+    
+    public int getOpenTicketCount(UUID uniqueId) {
+        NavigableSet<Integer> ticketIds = getOpenTicketsByUser().get(uniqueId);
+        return ticketIds != null ? ticketIds.size() : 0;
+    }
+    
+    public Collection<Integer> getOpenTicketIds() {
+        return Collections.unmodifiableSet(getOpenTickets());
+    }
+    
+    public Collection<Integer> getOpenTicketIds(UUID uniqueId) {
+        return get(getOpenTicketsByUser(), uniqueId);
+    }
+    
+    public Collection<Integer> getUnreadTicketIds(UUID uniqueId) {
+        return get(getUnreadTicketsByUser(), uniqueId);
+    }
+    
+    public LocationIndex getLocationIndex() {
+        return locationIndex;
+    }
+    
+    private Collection<Integer> get(Map<UUID, NavigableSet<Integer>> index, UUID uniqueId) {
+        NavigableSet<Integer> ticketIds = index.get(uniqueId);
+        if (ticketIds != null) {
+            return Collections.unmodifiableSet(ticketIds);
+        }
+        
+        return Collections.emptySet();
+    }
+    
+    private void update(Map<UUID, NavigableSet<Integer>> index, UUID uniqueId, int ticketId, boolean present) {
+        // Performed within compute so an empty set is never removed while another thread is adding to it
+        index.compute(uniqueId, (key, ticketIds) -> {
+            if (present) {
+                if (ticketIds == null) {
+                    ticketIds = new ConcurrentSkipListSet<>();
+                }
+                
+                ticketIds.add(ticketId);
+                return ticketIds;
+            }
+            
+            if (ticketIds != null && ticketIds.remove(ticketId) && ticketIds.isEmpty()) {
+                return null;
+            }
+            
+            return ticketIds;
+        });
+    }
+    
+    private NavigableSet<Integer> getOpenTickets() {
+        return openTickets;
+    }
+    
+    private Map<UUID, NavigableSet<Integer>> getOpenTicketsByUser() {
+        return openTicketsByUser;
+    }
+    
+    private Map<UUID, NavigableSet<Integer>> getUnreadTicketsByUser() {
+        return unreadTicketsByUser;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.storage.Query;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class TicketLoader implements CacheLoader<Integer, TicketData> {
+    
+    @Override
+    public TicketData load(Integer key) throws Exception {
+        TicketData ticket = getQuery().getTicket(key);
+        if (ticket == null) {
+            return null;
+        }
+        
+        Collection<CommentData> comments = getQuery().getComments(key);
+        if (comments != null) {
+            ticket.setComments(comments);
+        }
+        
+        index(ticket);
+        return ticket;
+    }
+    
+    @Override
+    public Map<Integer, TicketData> loadAll(Iterable<? extends Integer> keys) throws Exception {
+        Map<Integer, TicketData> tickets = Maps.newHashMap();
+        for (TicketData ticket : getQuery().getTickets(Sets.newHashSet(keys))) {
+            index(ticket);
+            tickets.put(ticket.getId(), ticket);
+        }
+        
+        return tickets;
+    }
+    
+    private void index(TicketData ticket) {
+        DataManager.getTicketIndex().index(ticket);
+        
+        // Forces the expiry to be recalculated
+        DataManager.getCachedUser(ticket.getUser());
+    }
+    
+    private Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+}
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.github.benmanes.caffeine.cache.Expiry;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
 
 import java.time.Duration;
 import java.util.UUID;
@@ -42,7 +43,7 @@ public class UserExpiry implements Expiry<UUID, UserData> {
     }
     
     private Duration getExpiry(UserData user) {
-        if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId()) || !DataManager.getCachedOpenTickets(user.getUniqueId()).isEmpty()) {
+        if (PresenceManager.isOnline(user.getUniqueId()) || DataManager.getTicketIndex().getOpenTicketCount(user.getUniqueId()) > 0) {
             Ticket.getInstance().getLogger().debug("UserExpiry - {} ({}) Infinite", user.getName(), user.getUniqueId());
             return Duration.ofNanos(Long.MAX_VALUE);
         }
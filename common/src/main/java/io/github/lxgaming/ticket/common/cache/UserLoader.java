@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.storage.Query;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class UserLoader implements CacheLoader<UUID, UserData> {
+    
+    @Override
+    public UserData load(UUID key) throws Exception {
+        return getQuery().getUser(key);
+    }
+    
+    @Override
+    public Map<UUID, UserData> loadAll(Iterable<? extends UUID> keys) throws Exception {
+        Map<UUID, UserData> users = Maps.newHashMap();
+        for (UserData user : getQuery().getUsers(Sets.newHashSet(keys))) {
+            users.put(user.getUniqueId(), user);
+        }
+        
+        return users;
+    }
+    
+    private Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+}
\ No newline at end of file
@@ -17,6 +17,7 @@
 package io.github.lxgaming.ticket.common.command;
 
 import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.common.manager.CommandManager;
 import org.apache.commons.lang3.StringUtils;
 
@@ -34,6 +35,11 @@ public abstract class AbstractCommand {
     
     public abstract void execute(Object object, List<String> arguments);
     
+    protected final Void handleException(Throwable throwable) {
+        Ticket.getInstance().getLogger().error("Encountered an error processing {}::execute", getClass().getSimpleName(), throwable);
+        return null;
+    }
+    
     protected final void addAlias(String alias) {
         CommandManager.registerAlias(this, alias);
     }
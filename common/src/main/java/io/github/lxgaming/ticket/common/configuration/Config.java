@@ -17,6 +17,7 @@
 package io.github.lxgaming.ticket.common.configuration;
 
 import io.github.lxgaming.ticket.common.configuration.category.CommandCategory;
+import io.github.lxgaming.ticket.common.configuration.category.MessageCategory;
 import io.github.lxgaming.ticket.common.configuration.category.StorageCategory;
 import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
 
@@ -30,6 +31,7 @@ public class Config {
     private CommandCategory command = new CommandCategory();
     private TicketCategory ticket = new TicketCategory();
     private StorageCategory storage = new StorageCategory();
+    private MessageCategory message = new MessageCategory();
     
     public boolean isDebug() {
         return debug;
@@ -58,4 +60,8 @@ public class Config {
     public StorageCategory getStorage() {
         return storage;
     }
+    
+    public MessageCategory getMessage() {
+        return message;
+    }
 }
\ No newline at end of file
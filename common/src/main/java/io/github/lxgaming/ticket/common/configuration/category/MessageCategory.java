@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.configuration.category;
+
+public class MessageCategory {
+    
+    private String format = "json";
+    private long heartbeatInterval = 30000L;
+    private long heartbeatTimeout = 90000L;
+    private int maximumPayloadSize = 1048576;
+    
+    public String getFormat() {
+        return format;
+    }
+    
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+    
+    public long getHeartbeatTimeout() {
+        return heartbeatTimeout;
+    }
+    
+    public int getMaximumPayloadSize() {
+        return maximumPayloadSize;
+    }
+}
\ No newline at end of file
@@ -18,12 +18,25 @@ package io.github.lxgaming.ticket.common.configuration.category;
 
 public class StorageCategory {
     
+    private String type = "mysql";
     private String address = "localhost:3306";
     private String database = "ticket";
     private String username = "ticket";
     private String password = "password";
     private int maximumPoolSize = 2;
     private int minimumIdle = 1;
+    private int executorSize = 2;
+    private boolean binaryUniqueId = false;
+    
+    // Confirms every other proxy using this database is stopped, offline migrations do not run without it
+    private boolean offlineMigration = false;
+    private long flushInterval = 5000L;
+    private long loginInterval = 250L;
+    private long latency = 0L;
+    
+    public String getType() {
+        return type;
+    }
     
     public String getAddress() {
         return address;
@@ -48,4 +61,28 @@ public class StorageCategory {
     public int getMinimumIdle() {
         return minimumIdle;
     }
+    
+    public int getExecutorSize() {
+        return executorSize;
+    }
+    
+    public boolean isBinaryUniqueId() {
+        return binaryUniqueId;
+    }
+    
+    public boolean isOfflineMigration() {
+        return offlineMigration;
+    }
+    
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+    
+    public long getLoginInterval() {
+        return loginInterval;
+    }
+    
+    public long getLatency() {
+        return latency;
+    }
 }
\ No newline at end of file
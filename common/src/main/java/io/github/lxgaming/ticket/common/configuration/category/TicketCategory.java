@@ -23,6 +23,8 @@ public class TicketCategory {
     private long openDelay = 60000L;
     private int maximumTickets = 3;
     private int minimumWords = 2;
+    private double nearbyRadius = 64.0D;
+    private int pageSize = 8;
     
     public String getDateFormat() {
         return dateFormat;
@@ -43,4 +45,12 @@ public class TicketCategory {
     public int getMinimumWords() {
         return minimumWords;
     }
+    
+    public double getNearbyRadius() {
+        return nearbyRadius;
+    }
+    
+    public int getPageSize() {
+        return pageSize;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.listener;
+
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
+import io.github.lxgaming.ticket.common.message.PresenceUpdateMessage;
+import io.github.lxgaming.ticket.common.message.TicketCloseMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
+import io.github.lxgaming.ticket.common.message.TicketReopenMessage;
+import io.github.lxgaming.ticket.common.message.UserBanMessage;
+import io.github.lxgaming.ticket.common.message.UserPardonMessage;
+
+public abstract class AbstractMessageListener {
+    
+    public void register() {
+        MessageManager.registerHandler(PresenceMessage.class, this::onPresence);
+        MessageManager.registerHandler(PresenceUpdateMessage.class, this::onPresenceUpdate);
+        MessageManager.registerHandler(TicketCloseMessage.class, this::onTicketClose);
+        MessageManager.registerHandler(TicketCommentMessage.class, this::onTicketComment);
+        MessageManager.registerHandler(TicketOpenMessage.class, this::onTicketOpen);
+        MessageManager.registerHandler(TicketReopenMessage.class, this::onTicketReopen);
+        MessageManager.registerHandler(UserBanMessage.class, this::onUserBan);
+        MessageManager.registerHandler(UserPardonMessage.class, this::onUserPardon);
+    }
+    
+    protected abstract void onTicketClose(TicketData ticket, UserData user);
+    
+    protected abstract void onTicketComment(TicketData ticket, UserData user);
+    
+    protected abstract void onTicketOpen(TicketData ticket, UserData user);
+    
+    protected abstract void onTicketReopen(TicketData ticket, String sender);
+    
+    protected abstract void onUserBan(UserData user, String sender);
+    
+    protected abstract void onUserPardon(UserData user, String sender);
+    
+    private void onPresence(PresenceMessage message) {
+        PresenceManager.setRemoteUsers(message.getProxyId(), message.getUniqueIds());
+        
+        // A proxy that has just started needs to know who is connected elsewhere
+        if (message.isRequest()) {
+            MessageManager.sendMessage(new PresenceMessage(PresenceManager.getLocalUsers(), false));
+        }
+    }
+    
+    private void onPresenceUpdate(PresenceUpdateMessage message) {
+        if (message.isOnline()) {
+            PresenceManager.addRemoteUser(message.getProxyId(), message.getUniqueId());
+        } else {
+            PresenceManager.removeRemoteUser(message.getProxyId(), message.getUniqueId());
+        }
+    }
+    
+    private void onTicketClose(TicketCloseMessage message) {
+        DataManager.applyTicketUpdate(message.getTicketId(), message.getVersion(), ticket -> {
+            ticket.setStatus(message.getStatus());
+            ticket.setRead(message.isRead());
+        }).thenAccept(optionalTicket -> optionalTicket.ifPresent(ticket -> onTicketClose(ticket, message.getUser())));
+    }
+    
+    private void onTicketComment(TicketCommentMessage message) {
+        DataManager.getUserCache().put(message.getUser().getUniqueId(), message.getUser());
+        DataManager.applyTicketUpdate(message.getTicketId(), message.getVersion(), ticket -> ticket.getComments().add(message.getComment()))
+                .thenAccept(optionalTicket -> optionalTicket.ifPresent(ticket -> onTicketComment(ticket, message.getUser())));
+    }
+    
+    private void onTicketOpen(TicketOpenMessage message) {
+        DataManager.cacheTicket(message.getTicket());
+        DataManager.getUserCache().put(message.getUser().getUniqueId(), message.getUser());
+        onTicketOpen(message.getTicket(), message.getUser());
+    }
+    
+    private void onTicketReopen(TicketReopenMessage message) {
+        DataManager.applyTicketUpdate(message.getTicketId(), message.getVersion(), ticket -> {
+            ticket.setStatus(message.getStatus());
+            ticket.setRead(message.isRead());
+        }).thenAccept(optionalTicket -> optionalTicket.ifPresent(ticket -> onTicketReopen(ticket, message.getBy())));
+    }
+    
+    private void onUserBan(UserBanMessage message) {
+        DataManager.getUserCache().put(message.getUser().getUniqueId(), message.getUser());
+        onUserBan(message.getUser(), message.getBy());
+    }
+    
+    private void onUserPardon(UserPardonMessage message) {
+        DataManager.getUserCache().put(message.getUser().getUniqueId(), message.getUser());
+        onUserPardon(message.getUser(), message.getBy());
+    }
+}
\ No newline at end of file
@@ -18,6 +18,11 @@ package io.github.lxgaming.ticket.common.manager;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.CommentData;
@@ -26,92 +31,153 @@ import io.github.lxgaming.ticket.api.data.TicketData;
 import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.cache.TicketExpiry;
+import io.github.lxgaming.ticket.common.cache.TicketIndex;
+import io.github.lxgaming.ticket.common.cache.TicketLoader;
 import io.github.lxgaming.ticket.common.cache.UserExpiry;
+import io.github.lxgaming.ticket.common.cache.UserLoader;
+import io.github.lxgaming.ticket.common.storage.AsyncQuery;
+import io.github.lxgaming.ticket.common.storage.Query;
+import io.github.lxgaming.ticket.common.storage.WriteBehindQueue;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public class DataManager {
     
-    private static final Cache<Integer, TicketData> TICKET_CACHE = Caffeine.newBuilder().expireAfter(new TicketExpiry()).build();
-    private static final Cache<UUID, UserData> USER_CACHE = Caffeine.newBuilder().expireAfter(new UserExpiry()).build();
+    private static final TicketIndex TICKET_INDEX = new TicketIndex();
+    private static final LoadingCache<Integer, TicketData> TICKET_CACHE = Caffeine.newBuilder()
+            .expireAfter(new TicketExpiry())
+            .evictionListener((Integer key, TicketData value, RemovalCause cause) -> {
+                if (value != null) {
+                    getTicketIndex().remove(value);
+                }
+            })
+            .build(new TicketLoader());
+    private static final LoadingCache<UUID, UserData> USER_CACHE = Caffeine.newBuilder().expireAfter(new UserExpiry()).build(new UserLoader());
+    private static final Cache<UUID, NavigableMap<Integer, Integer>> HISTORY_CURSOR_CACHE = Caffeine.newBuilder().expireAfterAccess(10L, TimeUnit.MINUTES).maximumSize(1000L).build();
     
     public static Optional<UserData> getCachedUser(UUID uniqueId) {
         return Optional.ofNullable(getUserCache().getIfPresent(uniqueId));
     }
     
-    public static Optional<UserData> getUser(UUID uniqueId) {
-        return Optional.ofNullable(getUserCache().get(uniqueId, key -> {
-            try {
-                return TicketImpl.getInstance().getStorage().getQuery().getUser(key);
-            } catch (Exception ex) {
-                Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getUser", ex);
-                return null;
-            }
-        }));
+    public static CompletableFuture<Optional<UserData>> getUser(UUID uniqueId) {
+        UserData cachedUser = getUserCache().getIfPresent(uniqueId);
+        if (cachedUser != null) {
+            return CompletableFuture.completedFuture(Optional.of(cachedUser));
+        }
+        
+        return getAsyncQuery().supplyAsync(() -> Optional.ofNullable(getUserCache().get(uniqueId))).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getUser", ex);
+            return Optional.empty();
+        });
     }
     
-    public static Optional<Collection<UserData>> getUsers(String name) {
-        try {
-            Collection<UUID> uniqueIds = TicketImpl.getInstance().getStorage().getQuery().getUsers(name);
-            if (uniqueIds == null || uniqueIds.isEmpty()) {
-                return Optional.empty();
-            }
-            
-            Collection<UserData> users = Sets.newHashSet();
-            uniqueIds.forEach(uniqueId -> getUser(uniqueId).map(users::add));
-            return Optional.of(users);
-        } catch (Exception ex) {
+    public static CompletableFuture<Optional<Collection<UserData>>> getUsers(String name) {
+        return getAsyncQuery().getUsers(name).thenCompose(DataManager::getUsers).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getUsers", ex);
             return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Optional<Collection<UserData>>> getUsers(Collection<UUID> uniqueIds) {
+        if (uniqueIds == null || uniqueIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        
+        Map<UUID, UserData> cachedUsers = getUserCache().getAllPresent(uniqueIds);
+        if (cachedUsers.keySet().containsAll(uniqueIds)) {
+            return CompletableFuture.completedFuture(Optional.of(Sets.newHashSet(cachedUsers.values())));
         }
+        
+        return getAsyncQuery().supplyAsync(() -> Optional.<Collection<UserData>>of(Sets.newHashSet(getUserCache().getAll(uniqueIds).values()))).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getUsers", ex);
+            return Optional.empty();
+        });
     }
     
-    public static Optional<UserData> getOrCreateUser(UUID uniqueId) {
-        return Optional.ofNullable(getUserCache().get(uniqueId, key -> {
-            try {
-                UserData user = TicketImpl.getInstance().getStorage().getQuery().getUser(key);
-                if (user != null) {
-                    return user;
-                }
-                
-                return TicketImpl.getInstance().getStorage().getQuery().createUser(key);
-            } catch (Exception ex) {
-                Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getOrCreateUser", ex);
-                return null;
+    public static CompletableFuture<Optional<UserData>> getOrCreateUser(UUID uniqueId) {
+        UserData cachedUser = getUserCache().getIfPresent(uniqueId);
+        if (cachedUser != null) {
+            return CompletableFuture.completedFuture(Optional.of(cachedUser));
+        }
+        
+        return getAsyncQuery().supplyAsync(() -> getUserCache().get(uniqueId)).thenCompose(user -> {
+            if (user != null) {
+                return CompletableFuture.completedFuture(user);
             }
-        }));
+            
+            return getAsyncQuery().createUser(uniqueId);
+        }).thenApply(user -> Optional.of(cacheUserIfAbsent(user))).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getOrCreateUser", ex);
+            return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Boolean> updateUser(UserData user) {
+        return getAsyncQuery().updateUser(user).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::updateUser", ex);
+            return false;
+        });
+    }
+    
+    public static void queueUserName(UserData user) {
+        getWriteBehindQueue().queueUserName(user.getUniqueId(), user.getName());
+    }
+    
+    public static CompletableFuture<Optional<Collection<TicketData>>> queueLogin(UUID uniqueId, String name) {
+        return TicketImpl.getInstance().getLoginQueue().queueLogin(uniqueId, name);
     }
     
     public static Collection<TicketData> getCachedOpenTickets(UUID uniqueId) {
-        Collection<TicketData> tickets = Sets.newTreeSet();
-        for (TicketData ticket : getTicketCache().asMap().values()) {
-            if (ticket.getUser().equals(uniqueId) && ticket.getStatus() == 0) {
-                getCachedTicket(ticket.getId()).ifPresent(tickets::add);
-            }
+        return getCachedTickets(getTicketIndex().getOpenTicketIds(uniqueId));
+    }
+    
+    public static Collection<TicketData> getCachedOpenTickets() {
+        return getCachedTickets(getTicketIndex().getOpenTicketIds());
+    }
+    
+    public static Collection<TicketData> getCachedUnreadTickets(UUID uniqueId) {
+        return getCachedTickets(getTicketIndex().getUnreadTicketIds(uniqueId));
+    }
+    
+    public static Collection<TicketData> getCachedOpenTickets(String server) {
+        return getCachedTickets(getTicketIndex().getLocationIndex().getTicketIds(server));
+    }
+    
+    public static List<TicketData> getCachedNearbyTickets(LocationData location, double radius) {
+        List<TicketData> tickets = Lists.newArrayList();
+        for (int ticketId : getTicketIndex().getLocationIndex().getTicketIds(location, radius)) {
+            getCachedTicket(ticketId).ifPresent(tickets::add);
         }
         
         return tickets;
     }
     
-    public static Collection<TicketData> getCachedOpenTickets() {
-        Collection<TicketData> tickets = Sets.newTreeSet();
-        for (TicketData ticket : getTicketCache().asMap().values()) {
-            if (ticket.getStatus() == 0) {
-                getCachedTicket(ticket.getId()).ifPresent(tickets::add);
-            }
+    public static List<TicketData> getCachedTickets(Collection<Integer> ticketIds, int offset, int limit) {
+        List<TicketData> tickets = Lists.newArrayList();
+        Iterator<Integer> iterator = ticketIds.iterator();
+        Iterators.advance(iterator, offset);
+        while (iterator.hasNext() && tickets.size() < limit) {
+            getCachedTicket(iterator.next()).ifPresent(tickets::add);
         }
         
         return tickets;
     }
     
-    public static Collection<TicketData> getCachedUnreadTickets(UUID uniqueId) {
+    private static Collection<TicketData> getCachedTickets(Collection<Integer> ticketIds) {
         Collection<TicketData> tickets = Sets.newTreeSet();
-        for (TicketData ticket : getTicketCache().asMap().values()) {
-            if (ticket.getUser().equals(uniqueId) && ticket.getStatus() == 1 && !ticket.isRead()) {
-                getCachedTicket(ticket.getId()).ifPresent(tickets::add);
-            }
+        for (int ticketId : ticketIds) {
+            getCachedTicket(ticketId).ifPresent(tickets::add);
         }
         
         return tickets;
@@ -121,85 +187,292 @@ public class DataManager {
         return Optional.ofNullable(getTicketCache().getIfPresent(ticketId));
     }
     
-    public static Optional<Collection<TicketData>> getOpenTickets() {
-        try {
-            Collection<Integer> ticketIds = TicketImpl.getInstance().getStorage().getQuery().getOpenTickets();
-            if (ticketIds == null || ticketIds.isEmpty()) {
-                return Optional.empty();
-            }
-            
-            Collection<TicketData> tickets = Sets.newTreeSet();
-            ticketIds.forEach(ticketId -> getTicket(ticketId).map(tickets::add));
-            return Optional.of(tickets);
-        } catch (Exception ex) {
+    public static CompletableFuture<Optional<Collection<TicketData>>> getOpenTickets() {
+        return getAsyncQuery().getOpenTickets().thenCompose(DataManager::getTickets).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getOpenTickets", ex);
             return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Optional<Collection<TicketData>>> getUnreadTickets(UUID uniqueId) {
+        return getAsyncQuery().getUnreadTickets(uniqueId).thenCompose(DataManager::getTickets).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getUnreadTickets", ex);
+            return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Optional<Collection<TicketData>>> getTickets(Collection<Integer> ticketIds) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        
+        Map<Integer, TicketData> cachedTickets = getTicketCache().getAllPresent(ticketIds);
+        if (cachedTickets.keySet().containsAll(ticketIds)) {
+            return CompletableFuture.completedFuture(Optional.of(Sets.newTreeSet(cachedTickets.values())));
         }
+        
+        return getAsyncQuery().supplyAsync(() -> Optional.<Collection<TicketData>>of(Sets.newTreeSet(getTicketCache().getAll(ticketIds).values()))).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getTickets", ex);
+            return Optional.empty();
+        });
     }
     
-    public static Optional<Collection<TicketData>> getUnreadTickets(UUID uniqueId) {
-        try {
-            Collection<Integer> ticketIds = TicketImpl.getInstance().getStorage().getQuery().getUnreadTickets(uniqueId);
-            if (ticketIds == null || ticketIds.isEmpty()) {
-                return Optional.empty();
-            }
+    public static CompletableFuture<Optional<List<TicketData>>> getTicketHistory(UUID uniqueId, int page, int pageSize) {
+        return getAsyncQuery().supplyAsync(() -> {
+            // Keyset pagination resumes from the last id of the previous page, which is remembered as pages are visited
+            NavigableMap<Integer, Integer> cursors = getHistoryCursorCache().get(uniqueId, key -> new ConcurrentSkipListMap<>());
+            cursors.putIfAbsent(1, 0);
             
-            Collection<TicketData> tickets = Sets.newTreeSet();
-            ticketIds.forEach(ticketId -> getTicket(ticketId).map(tickets::add));
-            return Optional.of(tickets);
-        } catch (Exception ex) {
+            Map.Entry<Integer, Integer> cursor = cursors.floorEntry(page);
+            int currentPage = cursor.getKey();
+            int afterId = cursor.getValue();
+            while (true) {
+                List<TicketData> tickets = getQuery().getTicketsByUser(uniqueId, afterId, pageSize + 1);
+                if (tickets.size() > pageSize) {
+                    cursors.put(currentPage + 1, tickets.get(pageSize - 1).getId());
+                }
+                
+                if (currentPage == page) {
+                    // Bypasses the cache so old tickets do not evict the hot set, cached instances are still preferred as they may be newer
+                    tickets.replaceAll(ticket -> getCachedTicket(ticket.getId()).orElse(ticket));
+                    return Optional.of(tickets);
+                }
+                
+                if (tickets.size() <= pageSize) {
+                    return Optional.<List<TicketData>>of(Lists.newArrayList());
+                }
+                
+                currentPage++;
+                afterId = tickets.get(pageSize - 1).getId();
+            }
+        }).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getTicketHistory", ex);
             return Optional.empty();
-        }
+        });
     }
     
-    public static Optional<TicketData> getTicket(int ticketId) {
-        return Optional.ofNullable(getTicketCache().get(ticketId, key -> {
-            try {
-                TicketData ticket = TicketImpl.getInstance().getStorage().getQuery().getTicket(key);
-                if (ticket != null) {
-                    Collection<CommentData> comments = TicketImpl.getInstance().getStorage().getQuery().getComments(ticket.getId());
-                    if (comments != null) {
-                        ticket.setComments(comments);
+    public static CompletableFuture<Optional<List<TicketData>>> searchTickets(String query, int offset, int limit) {
+        return getAsyncQuery().searchTickets(query, offset, limit).thenCompose(ticketIds -> {
+            if (ticketIds.isEmpty()) {
+                return CompletableFuture.completedFuture(Optional.<List<TicketData>>of(Lists.newArrayList()));
+            }
+            
+            return getTickets(ticketIds).thenApply(optionalTickets -> optionalTickets.map(tickets -> {
+                // Restores the relevance order of the search results
+                Map<Integer, TicketData> ticketsById = Maps.newHashMap();
+                tickets.forEach(ticket -> ticketsById.put(ticket.getId(), ticket));
+                
+                List<TicketData> sortedTickets = Lists.newArrayList();
+                for (int ticketId : ticketIds) {
+                    TicketData ticket = ticketsById.get(ticketId);
+                    if (ticket != null) {
+                        sortedTickets.add(ticket);
                     }
                 }
                 
-                return ticket;
-            } catch (Exception ex) {
-                Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getTicket", ex);
-                return null;
-            }
-        }));
+                return sortedTickets;
+            }));
+        }).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::searchTickets", ex);
+            return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Optional<TicketData>> getTicket(int ticketId) {
+        TicketData cachedTicket = getTicketCache().getIfPresent(ticketId);
+        if (cachedTicket != null) {
+            return CompletableFuture.completedFuture(Optional.of(cachedTicket));
+        }
+        
+        return getAsyncQuery().supplyAsync(() -> Optional.ofNullable(getTicketCache().get(ticketId))).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::getTicket", ex);
+            return Optional.empty();
+        });
     }
     
-    public static Optional<TicketData> createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) {
-        try {
-            TicketData ticket = TicketImpl.getInstance().getStorage().getQuery().createTicket(uniqueId, timestamp, location, text);
-            getTicketCache().put(ticket.getId(), ticket);
+    public static CompletableFuture<Optional<TicketData>> createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) {
+        return getAsyncQuery().createTicket(uniqueId, timestamp, location, text).thenApply(ticket -> {
+            cacheTicket(ticket);
             return Optional.of(ticket);
-        } catch (Exception ex) {
+        }).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::createTicket", ex);
             return Optional.empty();
-        }
+        });
     }
     
-    public static Optional<CommentData> createComment(int ticketId, UUID uniqueId, Instant timestamp, String text) {
-        try {
-            TicketData ticket = getTicket(ticketId).orElse(null);
-            if (ticket == null) {
-                return Optional.empty();
+    public static CompletableFuture<Optional<CommentData>> createComment(int ticketId, UUID uniqueId, Instant timestamp, String text) {
+        return getTicket(ticketId).thenCompose(ticket -> {
+            if (!ticket.isPresent()) {
+                return CompletableFuture.completedFuture(Optional.<CommentData>empty());
             }
             
-            CommentData comment = TicketImpl.getInstance().getStorage().getQuery().createComment(ticketId, uniqueId, timestamp, text);
-            ticket.getComments().add(comment);
-            return Optional.of(comment);
-        } catch (Exception ex) {
+            TicketData snapshot = snapshot(ticket.get());
+            int version = snapshot.getVersion();
+            return getAsyncQuery().createComment(snapshot, uniqueId, timestamp, text).thenApply(comment -> {
+                synchronized (ticket.get()) {
+                    ticket.get().getComments().add(comment);
+                }
+                
+                checkVersion(ticket.get(), version, snapshot);
+                return Optional.of(comment);
+            });
+        }).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::createComment", ex);
             return Optional.empty();
+        });
+    }
+    
+    public static CompletableFuture<Boolean> updateTicket(TicketData ticket) {
+        // The cached instance has already been modified by the caller
+        getTicketIndex().index(ticket);
+        
+        // Forces the expiry to be recalculated
+        getCachedUser(ticket.getUser());
+        
+        TicketData snapshot = snapshot(ticket);
+        int version = snapshot.getVersion();
+        return getAsyncQuery().updateTicket(snapshot).thenApply(result -> {
+            if (result) {
+                checkVersion(ticket, version, snapshot);
+            }
+            
+            return result;
+        }).exceptionally(ex -> {
+            Ticket.getInstance().getLogger().error("Encountered an error processing DataManager::updateTicket", ex);
+            return false;
+        });
+    }
+    
+    public static CompletableFuture<Optional<TicketData>> applyTicketUpdate(int ticketId, int version, Consumer<TicketData> consumer) {
+        TicketData ticket = getTicketCache().getIfPresent(ticketId);
+        if (ticket != null) {
+            synchronized (ticket) {
+                // Already applied locally or by a duplicate message
+                if (version <= ticket.getVersion()) {
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+                
+                if (version == ticket.getVersion() + 1) {
+                    consumer.accept(ticket);
+                    ticket.setVersion(version);
+                    getTicketIndex().index(ticket);
+                    
+                    // Forces the expiry to be recalculated
+                    getCachedUser(ticket.getUser());
+                    return CompletableFuture.completedFuture(Optional.of(ticket));
+                }
+            }
+            
+            Ticket.getInstance().getLogger().debug("Reloading ticket #{} (Version {} -> {})", ticketId, ticket.getVersion(), version);
+            return reloadTicket(ticket, version);
+        }
+        
+        return getTicket(ticketId, version);
+    }
+    
+    // Queries write a copy so remote updates applied to the cached instance while the write is pending are not mixed into it
+    private static TicketData snapshot(TicketData ticket) {
+        TicketData snapshot = new TicketData();
+        synchronized (ticket) {
+            snapshot.setId(ticket.getId());
+            snapshot.setStatus(ticket.getStatus());
+            snapshot.setRead(ticket.isRead());
+            snapshot.setVersion(ticket.getVersion());
         }
+        
+        return snapshot;
     }
     
-    public static Cache<Integer, TicketData> getTicketCache() {
+    // Any version other than the next one means another proxy changed the ticket concurrently
+    private static void checkVersion(TicketData ticket, int previousVersion, TicketData snapshot) {
+        synchronized (ticket) {
+            boolean current = ticket.getVersion() == previousVersion && snapshot.getVersion() == previousVersion + 1;
+            
+            // Callers send the written values to the other proxies
+            ticket.setStatus(snapshot.getStatus());
+            ticket.setRead(snapshot.isRead());
+            ticket.setVersion(snapshot.getVersion());
+            if (current) {
+                return;
+            }
+        }
+        
+        Ticket.getInstance().getLogger().debug("Reloading ticket #{} (Version {} -> {})", ticket.getId(), previousVersion, snapshot.getVersion());
+        reloadTicket(ticket, snapshot.getVersion());
+    }
+    
+    private static CompletableFuture<Optional<TicketData>> reloadTicket(TicketData ticket, int version) {
+        // Invalidation is not an eviction so the index has to be cleaned up here, the loader indexes the fresh copy
+        getTicketIndex().remove(ticket);
+        getTicketCache().invalidate(ticket.getId());
+        return getTicket(ticket.getId(), version);
+    }
+    
+    private static CompletableFuture<Optional<TicketData>> getTicket(int ticketId, int version) {
+        return getTicket(ticketId).thenCompose(ticket -> {
+            // A load which started before the update was committed returns a stale copy
+            if (ticket.isPresent() && ticket.get().getVersion() < version) {
+                return reloadTicket(ticket.get(), version);
+            }
+            
+            return CompletableFuture.completedFuture(ticket);
+        });
+    }
+    
+    public static void queueTicketRead(TicketData ticket) {
+        // The cached instance has already been modified by the caller
+        getTicketIndex().index(ticket);
+        
+        // Forces the expiry to be recalculated
+        getCachedUser(ticket.getUser());
+        
+        getWriteBehindQueue().queueTicketRead(ticket.getId(), ticket.isRead());
+    }
+    
+    public static void cacheTicket(TicketData ticket) {
+        getTicketCache().put(ticket.getId(), ticket);
+        getTicketIndex().index(ticket);
+        
+        // Forces the expiry to be recalculated
+        getCachedUser(ticket.getUser());
+    }
+    
+    private static UserData cacheUserIfAbsent(UserData user) {
+        return getUserCache().get(user.getUniqueId(), key -> user);
+    }
+    
+    public static void invalidateAll() {
+        getTicketCache().invalidateAll();
+        getTicketIndex().clear();
+        getUserCache().invalidateAll();
+        getHistoryCursorCache().invalidateAll();
+    }
+    
+    public static LoadingCache<Integer, TicketData> getTicketCache() {
         return TICKET_CACHE;
     }
     
-    public static Cache<UUID, UserData> getUserCache() {
+    public static LoadingCache<UUID, UserData> getUserCache() {
         return USER_CACHE;
     }
+    
+    private static Cache<UUID, NavigableMap<Integer, Integer>> getHistoryCursorCache() {
+        return HISTORY_CURSOR_CACHE;
+    }
+    
+    public static TicketIndex getTicketIndex() {
+        return TICKET_INDEX;
+    }
+    
+    private static AsyncQuery getAsyncQuery() {
+        return TicketImpl.getInstance().getAsyncQuery();
+    }
+    
+    private static Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+    
+    private static WriteBehindQueue getWriteBehindQueue() {
+        return TicketImpl.getInstance().getWriteBehindQueue();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.manager;
+
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.MessageCategory;
+import io.github.lxgaming.ticket.common.message.Message;
+import io.github.lxgaming.ticket.common.message.MessageCodec;
+import io.github.lxgaming.ticket.common.message.MessageFormat;
+import io.github.lxgaming.ticket.common.message.MessageTransport;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public final class MessageManager {
+    
+    private static final Map<String, Registration<?>> REGISTRATIONS = Maps.newConcurrentMap();
+    private static final Map<Class<?>, Registration<?>> REGISTRATION_CLASSES = Maps.newConcurrentMap();
+    private static final Map<String, Boolean> PROXIES = Maps.newConcurrentMap();
+    private static final AtomicReference<MessageTransport> TRANSPORT = new AtomicReference<>();
+    private static final AtomicReference<ScheduledExecutorService> HEARTBEAT = new AtomicReference<>();
+    
+    public static <T extends Message> boolean registerMessage(String type, Class<T> messageClass, MessageCodec<T> codec) {
+        if (getRegistrations().containsKey(type) || getRegistrationClasses().containsKey(messageClass)) {
+            Ticket.getInstance().getLogger().warn("{} has already been registered", messageClass.getSimpleName());
+            return false;
+        }
+        
+        Registration<T> registration = new Registration<>(type, Toolbox.GSON.getAdapter(messageClass), codec);
+        getRegistrations().put(type, registration);
+        getRegistrationClasses().put(messageClass, registration);
+        Ticket.getInstance().getLogger().debug("{} registered", messageClass.getSimpleName());
+        return true;
+    }
+    
+    public static <T extends Message> boolean registerHandler(Class<T> messageClass, Consumer<T> handler) {
+        Registration<T> registration = getRegistration(messageClass).orElse(null);
+        if (registration == null) {
+            Ticket.getInstance().getLogger().warn("{} has not been registered", messageClass.getSimpleName());
+            return false;
+        }
+        
+        registration.setHandler(handler);
+        return true;
+    }
+    
+    public static void setTransport(MessageTransport transport) {
+        ScheduledExecutorService previousHeartbeat = HEARTBEAT.getAndSet(null);
+        if (previousHeartbeat != null) {
+            previousHeartbeat.shutdownNow();
+        }
+        
+        MessageTransport previousTransport = TRANSPORT.getAndSet(transport);
+        if (previousTransport != null) {
+            previousTransport.shutdown();
+        }
+        
+        if (transport != null) {
+            transport.start(MessageManager::handle);
+            Ticket.getInstance().getLogger().debug("{} started", transport.getClass().getSimpleName());
+            startHeartbeat();
+        }
+    }
+    
+    public static void sendMessage(Message message) {
+        MessageTransport transport = getTransport().orElse(null);
+        if (transport != null) {
+            encode(message).ifPresent(transport::send);
+        }
+    }
+    
+    public static void handle(String string) {
+        Message message = decode(string).orElse(null);
+        if (message == null || StringUtils.equals(message.getProxyId(), getProxyId())) {
+            return;
+        }
+        
+        if (StringUtils.isBlank(message.getProxyId()) || !message.isValid()) {
+            Ticket.getInstance().getLogger().warn("Received invalid {}", message.getClass().getSimpleName());
+            return;
+        }
+        
+        PresenceManager.updateHeartbeat(message.getProxyId());
+        if (message instanceof PresenceMessage) {
+            updateProxy(message.getProxyId(), ((PresenceMessage) message).getFormats());
+        } else {
+            getProxies().putIfAbsent(message.getProxyId(), false);
+        }
+        
+        getRegistration(message).ifPresent(registration -> registration.handle(message));
+    }
+    
+    public static Set<String> getRemoteProxyIds() {
+        return Collections.unmodifiableSet(getProxies().keySet());
+    }
+    
+    public static Optional<String> encode(Message message) {
+        Registration<Message> registration = getRegistration(message).orElse(null);
+        if (registration == null) {
+            Ticket.getInstance().getLogger().warn("{} has not been registered", message.getClass().getSimpleName());
+            return Optional.empty();
+        }
+        
+        try {
+            if (getFormat() == MessageFormat.BINARY) {
+                return Optional.of(encodeBinary(registration, message));
+            }
+            
+            return Optional.of(encodeJson(registration, message));
+        } catch (IOException | RuntimeException ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing MessageManager::encode", ex);
+            return Optional.empty();
+        }
+    }
+    
+    public static Optional<Message> decode(String string) {
+        try {
+            // Base64 never produces a brace so JSON can be told apart by its first character
+            if (StringUtils.startsWith(string, "{")) {
+                return Optional.ofNullable(decodeJson(string));
+            }
+            
+            return Optional.ofNullable(decodeBinary(string));
+        } catch (IOException | RuntimeException ex) {
+            Ticket.getInstance().getLogger().warn("Failed to parse redis message");
+            return Optional.empty();
+        }
+    }
+    
+    private static String encodeJson(Registration<Message> registration, Message message) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(stringWriter);
+        jsonWriter.beginObject();
+        jsonWriter.name("id").value(getProxyId(message));
+        jsonWriter.name("type").value(registration.getType());
+        jsonWriter.name("message");
+        registration.getAdapter().write(jsonWriter, message);
+        jsonWriter.endObject();
+        return stringWriter.toString();
+    }
+    
+    private static Message decodeJson(String string) throws IOException {
+        // The type is always written ahead of the message so it can be read without building a tree
+        try (JsonReader jsonReader = new JsonReader(new StringReader(string))) {
+            String proxyId = null;
+            Registration<?> registration = null;
+            Message message = null;
+            
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                String name = jsonReader.nextName();
+                if (name.equals("id")) {
+                    proxyId = jsonReader.nextString();
+                } else if (name.equals("type")) {
+                    registration = getRegistrations().get(jsonReader.nextString());
+                } else if (name.equals("message") && registration != null) {
+                    message = registration.getAdapter().read(jsonReader);
+                } else {
+                    jsonReader.skipValue();
+                }
+            }
+            
+            jsonReader.endObject();
+            if (message != null) {
+                message.setProxyId(proxyId);
+            }
+            
+            return message;
+        }
+    }
+    
+    private static String encodeBinary(Registration<Message> registration, Message message) throws IOException {
+        ByteArrayOutputStream messageStream = new ByteArrayOutputStream();
+        registration.getCodec().write(new DataOutputStream(messageStream), message);
+        
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(messageStream.size() + 64);
+        DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+        BinaryToolbox.writeString(dataOutputStream, getProxyId(message));
+        BinaryToolbox.writeString(dataOutputStream, registration.getType());
+        BinaryToolbox.writeVarInt(dataOutputStream, messageStream.size());
+        messageStream.writeTo(dataOutputStream);
+        return Base64.getEncoder().encodeToString(byteArrayOutputStream.toByteArray());
+    }
+    
+    private static Message decodeBinary(String string) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(string)));
+        String proxyId = BinaryToolbox.readString(dataInputStream);
+        Registration<?> registration = getRegistrations().get(BinaryToolbox.readString(dataInputStream));
+        if (registration == null) {
+            return null;
+        }
+        
+        // The message is length-prefixed so fields appended by newer versions are ignored
+        int length = BinaryToolbox.readVarInt(dataInputStream);
+        int maximumLength = TicketImpl.getInstance().getConfig().map(Config::getMessage).map(MessageCategory::getMaximumPayloadSize).orElse(1048576);
+        if (length < 0 || length > maximumLength) {
+            throw new IOException("Payload length " + length + " is out of bounds");
+        }
+        
+        byte[] bytes = new byte[length];
+        dataInputStream.readFully(bytes);
+        Message message = registration.getCodec().read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        message.setProxyId(proxyId);
+        return message;
+    }
+    
+    private static void updateProxy(String proxyId, Collection<MessageFormat> formats) {
+        // An empty collection is sent by a proxy which is shutting down
+        if (formats != null && formats.isEmpty()) {
+            getProxies().remove(proxyId);
+            PresenceManager.removeProxy(proxyId);
+        } else {
+            getProxies().put(proxyId, formats != null && formats.contains(MessageFormat.BINARY));
+        }
+    }
+    
+    private static void startHeartbeat() {
+        long interval = TicketImpl.getInstance().getConfig().map(Config::getMessage).map(MessageCategory::getHeartbeatInterval).orElse(30000L);
+        if (interval <= 0L) {
+            return;
+        }
+        
+        ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(Reference.ID + "-heartbeat-%d")
+                .build());
+        scheduledExecutorService.scheduleWithFixedDelay(MessageManager::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        
+        ScheduledExecutorService previousHeartbeat = HEARTBEAT.getAndSet(scheduledExecutorService);
+        if (previousHeartbeat != null) {
+            previousHeartbeat.shutdownNow();
+        }
+    }
+    
+    private static void heartbeat() {
+        try {
+            // The full set is sent so updates missed by other proxies are corrected
+            sendMessage(new PresenceMessage(PresenceManager.getLocalUsers(), false));
+            
+            long timeout = TicketImpl.getInstance().getConfig().map(Config::getMessage).map(MessageCategory::getHeartbeatTimeout).orElse(90000L);
+            for (String proxyId : PresenceManager.expireProxies(timeout, TimeUnit.MILLISECONDS)) {
+                // A proxy which never returns would otherwise hold the network on JSON
+                getProxies().remove(proxyId);
+                Ticket.getInstance().getLogger().warn("{} has not sent a heartbeat within {}ms", proxyId, timeout);
+            }
+        } catch (Exception ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing MessageManager::heartbeat", ex);
+        }
+    }
+    
+    private static MessageFormat getFormat() {
+        String format = TicketImpl.getInstance().getConfig().map(Config::getMessage).map(MessageCategory::getFormat).orElse(null);
+        if (!StringUtils.equalsIgnoreCase(format, MessageFormat.BINARY.toString())) {
+            return MessageFormat.JSON;
+        }
+        
+        // Binary is only used once every known proxy has announced that it can decode it
+        if (getProxies().isEmpty() || getProxies().containsValue(false)) {
+            return MessageFormat.JSON;
+        }
+        
+        return MessageFormat.BINARY;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T extends Message> Optional<Registration<T>> getRegistration(Class<T> messageClass) {
+        return Optional.ofNullable((Registration<T>) getRegistrationClasses().get(messageClass));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Optional<Registration<Message>> getRegistration(Message message) {
+        return Optional.ofNullable((Registration<Message>) getRegistrationClasses().get(message.getClass()));
+    }
+    
+    private static String getProxyId(Message message) {
+        // Messages may carry their own proxy id so simulated proxies can share a single process
+        return StringUtils.defaultIfBlank(message.getProxyId(), getProxyId());
+    }
+    
+    private static String getProxyId() {
+        return TicketImpl.getInstance().getConfig().map(Config::getProxyId).orElse(null);
+    }
+    
+    private static Map<String, Registration<?>> getRegistrations() {
+        return REGISTRATIONS;
+    }
+    
+    private static Map<Class<?>, Registration<?>> getRegistrationClasses() {
+        return REGISTRATION_CLASSES;
+    }
+    
+    private static Map<String, Boolean> getProxies() {
+        return PROXIES;
+    }
+    
+    private static Optional<MessageTransport> getTransport() {
+        return Optional.ofNullable(TRANSPORT.get());
+    }
+    
+    private static class Registration<T extends Message> {
+        
+        private final String type;
+        private final TypeAdapter<T> adapter;
+        private final MessageCodec<T> codec;
+        private volatile Consumer<T> handler;
+        
+        private Registration(String type, TypeAdapter<T> adapter, MessageCodec<T> codec) {
+            this.type = type;
+            this.adapter = adapter;
+            this.codec = codec;
+        }
+        
+        private void handle(T message) {
+            Consumer<T> handler = this.handler;
+            if (handler != null) {
+                handler.accept(message);
+            }
+        }
+        
+        private String getType() {
+            return type;
+        }
+        
+        private TypeAdapter<T> getAdapter() {
+            return adapter;
+        }
+        
+        private MessageCodec<T> getCodec() {
+            return codec;
+        }
+        
+        private void setHandler(Consumer<T> handler) {
+            this.handler = handler;
+        }
+    }
+}
\ No newline at end of file
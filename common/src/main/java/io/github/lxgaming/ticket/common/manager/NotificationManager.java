@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.manager;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+public final class NotificationManager {
+    
+    private static final Set<String> PERMISSIONS = ImmutableSet.of(
+            "ticket.ban.notify",
+            "ticket.close.notify",
+            "ticket.comment.notify",
+            "ticket.open.notify",
+            "ticket.pardon.notify",
+            "ticket.reopen.notify");
+    
+    private static final Map<String, Set<UUID>> RECIPIENTS = Maps.newConcurrentMap();
+    
+    static {
+        for (String permission : PERMISSIONS) {
+            RECIPIENTS.put(permission, Sets.newConcurrentHashSet());
+        }
+    }
+    
+    public static void addUser(UUID uniqueId, Predicate<String> predicate) {
+        for (Map.Entry<String, Set<UUID>> entry : getRecipients().entrySet()) {
+            if (predicate.test(entry.getKey())) {
+                entry.getValue().add(uniqueId);
+            } else {
+                entry.getValue().remove(uniqueId);
+            }
+        }
+    }
+    
+    public static void removeUser(UUID uniqueId) {
+        for (Set<UUID> uniqueIds : getRecipients().values()) {
+            uniqueIds.remove(uniqueId);
+        }
+    }
+    
+    public static Optional<Collection<UUID>> getRecipients(String permission) {
+        Set<UUID> uniqueIds = getRecipients().get(permission);
+        if (uniqueIds != null) {
+            return Optional.of(Collections.unmodifiableSet(uniqueIds));
+        }
+        
+        return Optional.empty();
+    }
+    
+    private static Map<String, Set<UUID>> getRecipients() {
+        return RECIPIENTS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.manager;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.Platform;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public final class PresenceManager {
+    
+    private static final Set<UUID> ONLINE_USERS = Sets.newConcurrentHashSet();
+    private static final Map<UUID, String> REMOTE_USERS = Maps.newConcurrentMap();
+    private static final Map<String, Long> HEARTBEATS = Maps.newConcurrentMap();
+    
+    public static boolean isOnline(UUID uniqueId) {
+        return Platform.CONSOLE_UUID.equals(uniqueId) || getOnlineUsers().contains(uniqueId) || getRemoteUsers().containsKey(uniqueId);
+    }
+    
+    public static void addUser(UUID uniqueId) {
+        getOnlineUsers().add(uniqueId);
+    }
+    
+    public static void removeUser(UUID uniqueId) {
+        getOnlineUsers().remove(uniqueId);
+    }
+    
+    public static void addRemoteUser(String proxyId, UUID uniqueId) {
+        getRemoteUsers().put(uniqueId, proxyId);
+    }
+    
+    // Only removed if the user has not since connected to another proxy
+    public static void removeRemoteUser(String proxyId, UUID uniqueId) {
+        getRemoteUsers().remove(uniqueId, proxyId);
+    }
+    
+    public static void setRemoteUsers(String proxyId, Collection<UUID> uniqueIds) {
+        getRemoteUsers().values().removeIf(proxyId::equals);
+        uniqueIds.forEach(uniqueId -> addRemoteUser(proxyId, uniqueId));
+    }
+    
+    public static void updateHeartbeat(String proxyId) {
+        getHeartbeats().put(proxyId, System.nanoTime());
+    }
+    
+    public static void removeProxy(String proxyId) {
+        getHeartbeats().remove(proxyId);
+        getRemoteUsers().values().removeIf(proxyId::equals);
+    }
+    
+    // Proxies which crash or lose their connection never announce that they are shutting down
+    public static Collection<String> expireProxies(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() - unit.toNanos(timeout);
+        Collection<String> proxyIds = Lists.newArrayList();
+        getHeartbeats().forEach((proxyId, heartbeat) -> {
+            if (heartbeat - deadline < 0 && getHeartbeats().remove(proxyId, heartbeat)) {
+                getRemoteUsers().values().removeIf(proxyId::equals);
+                proxyIds.add(proxyId);
+            }
+        });
+        
+        return proxyIds;
+    }
+    
+    public static Collection<UUID> getLocalUsers() {
+        return Collections.unmodifiableSet(getOnlineUsers());
+    }
+    
+    private static Set<UUID> getOnlineUsers() {
+        return ONLINE_USERS;
+    }
+    
+    private static Map<UUID, String> getRemoteUsers() {
+        return REMOTE_USERS;
+    }
+    
+    private static Map<String, Long> getHeartbeats() {
+        return HEARTBEATS;
+    }
+}
\ No newline at end of file
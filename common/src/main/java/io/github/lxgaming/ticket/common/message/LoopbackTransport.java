@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+public class LoopbackTransport implements MessageTransport {
+    
+    private static final Set<Consumer<String>> CHANNEL = Sets.newCopyOnWriteArraySet();
+    private final Set<Consumer<String>> channel;
+    private final Executor executor;
+    private volatile Consumer<String> receiver;
+    
+    public LoopbackTransport() {
+        this(MoreExecutors.directExecutor());
+    }
+    
+    public LoopbackTransport(Executor executor) {
+        this(CHANNEL, executor);
+    }
+    
+    // The channel only holds JDK types so it can be shared by proxies loaded in separate class loaders
+    public LoopbackTransport(Set<Consumer<String>> channel, Executor executor) {
+        this.channel = channel;
+        this.executor = executor;
+    }
+    
+    @Override
+    public void start(Consumer<String> consumer) {
+        Consumer<String> receiver = message -> executor.execute(() -> consumer.accept(message));
+        this.receiver = receiver;
+        channel.add(receiver);
+    }
+    
+    @Override
+    public void send(String message) {
+        Consumer<String> receiver = this.receiver;
+        for (Consumer<String> consumer : channel) {
+            if (consumer != receiver) {
+                consumer.accept(message);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        Consumer<String> receiver = this.receiver;
+        if (receiver != null) {
+            channel.remove(receiver);
+            this.receiver = null;
+        }
+    }
+}
\ No newline at end of file
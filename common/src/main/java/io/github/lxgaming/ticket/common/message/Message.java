@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+public abstract class Message {
+    
+    private transient String proxyId;
+    
+    public abstract boolean isValid();
+    
+    public String getProxyId() {
+        return proxyId;
+    }
+    
+    public void setProxyId(String proxyId) {
+        this.proxyId = proxyId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import com.google.common.collect.Lists;
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class PresenceMessage extends Message {
+    
+    private final Collection<UUID> uniqueIds;
+    private final boolean request;
+    private final Collection<MessageFormat> formats;
+    
+    public PresenceMessage(Collection<UUID> uniqueIds, boolean request) {
+        this(uniqueIds, request, Arrays.asList(MessageFormat.values()));
+    }
+    
+    public PresenceMessage(Collection<UUID> uniqueIds, boolean request, Collection<MessageFormat> formats) {
+        this.uniqueIds = uniqueIds;
+        this.request = request;
+        this.formats = formats;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return uniqueIds != null;
+    }
+    
+    public Collection<UUID> getUniqueIds() {
+        return uniqueIds;
+    }
+    
+    public boolean isRequest() {
+        return request;
+    }
+    
+    public Collection<MessageFormat> getFormats() {
+        return formats;
+    }
+    
+    public static class Codec implements MessageCodec<PresenceMessage> {
+        
+        @Override
+        public void write(DataOutput output, PresenceMessage message) throws IOException {
+            BinaryToolbox.writeUniqueIds(output, message.getUniqueIds());
+            output.writeBoolean(message.isRequest());
+            BinaryToolbox.writeVarInt(output, message.getFormats().size());
+            for (MessageFormat format : message.getFormats()) {
+                BinaryToolbox.writeString(output, format.name());
+            }
+        }
+        
+        @Override
+        public PresenceMessage read(DataInput input) throws IOException {
+            List<UUID> uniqueIds = BinaryToolbox.readUniqueIds(input);
+            boolean request = input.readBoolean();
+            int size = BinaryToolbox.readVarInt(input);
+            List<MessageFormat> formats = Lists.newArrayList();
+            for (int index = 0; index < size; index++) {
+                String name = BinaryToolbox.readString(input);
+                Arrays.stream(MessageFormat.values()).filter(format -> format.name().equals(name)).findFirst().ifPresent(formats::add);
+            }
+            
+            return new PresenceMessage(uniqueIds, request, formats);
+        }
+    }
+}
\ No newline at end of file
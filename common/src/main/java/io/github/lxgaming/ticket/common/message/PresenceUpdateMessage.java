@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+public class PresenceUpdateMessage extends Message {
+    
+    private final UUID uniqueId;
+    private final boolean online;
+    
+    public PresenceUpdateMessage(UUID uniqueId, boolean online) {
+        this.uniqueId = uniqueId;
+        this.online = online;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return uniqueId != null;
+    }
+    
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+    
+    public boolean isOnline() {
+        return online;
+    }
+    
+    public static class Codec implements MessageCodec<PresenceUpdateMessage> {
+        
+        @Override
+        public void write(DataOutput output, PresenceUpdateMessage message) throws IOException {
+            BinaryToolbox.writeUniqueId(output, message.getUniqueId());
+            output.writeBoolean(message.isOnline());
+        }
+        
+        @Override
+        public PresenceUpdateMessage read(DataInput input) throws IOException {
+            return new PresenceUpdateMessage(BinaryToolbox.readUniqueId(input), input.readBoolean());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class TicketCommentMessage extends Message {
+    
+    private final int ticketId;
+    private final CommentData comment;
+    private final int version;
+    private final UserData user;
+    
+    public TicketCommentMessage(int ticketId, CommentData comment, int version, UserData user) {
+        this.ticketId = ticketId;
+        this.comment = comment;
+        this.version = version;
+        this.user = user;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return comment != null && user != null;
+    }
+    
+    public int getTicketId() {
+        return ticketId;
+    }
+    
+    public CommentData getComment() {
+        return comment;
+    }
+    
+    public int getVersion() {
+        return version;
+    }
+    
+    public UserData getUser() {
+        return user;
+    }
+    
+    public static class Codec implements MessageCodec<TicketCommentMessage> {
+        
+        @Override
+        public void write(DataOutput output, TicketCommentMessage message) throws IOException {
+            BinaryToolbox.writeVarInt(output, message.getTicketId());
+            BinaryToolbox.writeComment(output, message.getComment());
+            BinaryToolbox.writeVarInt(output, message.getVersion());
+            BinaryToolbox.writeUser(output, message.getUser());
+        }
+        
+        @Override
+        public TicketCommentMessage read(DataInput input) throws IOException {
+            return new TicketCommentMessage(BinaryToolbox.readVarInt(input), BinaryToolbox.readComment(input), BinaryToolbox.readVarInt(input), BinaryToolbox.readUser(input));
+        }
+    }
+}
\ No newline at end of file
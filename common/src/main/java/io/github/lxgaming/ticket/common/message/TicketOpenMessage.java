@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class TicketOpenMessage extends Message {
+    
+    private final TicketData ticket;
+    private final UserData user;
+    
+    public TicketOpenMessage(TicketData ticket, UserData user) {
+        this.ticket = ticket;
+        this.user = user;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return ticket != null && user != null;
+    }
+    
+    public TicketData getTicket() {
+        return ticket;
+    }
+    
+    public UserData getUser() {
+        return user;
+    }
+    
+    public static class Codec implements MessageCodec<TicketOpenMessage> {
+        
+        @Override
+        public void write(DataOutput output, TicketOpenMessage message) throws IOException {
+            BinaryToolbox.writeTicket(output, message.getTicket());
+            BinaryToolbox.writeUser(output, message.getUser());
+        }
+        
+        @Override
+        public TicketOpenMessage read(DataInput input) throws IOException {
+            return new TicketOpenMessage(BinaryToolbox.readTicket(input), BinaryToolbox.readUser(input));
+        }
+    }
+}
\ No newline at end of file
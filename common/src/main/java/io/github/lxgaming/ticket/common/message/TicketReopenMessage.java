@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class TicketReopenMessage extends Message {
+    
+    private final int ticketId;
+    private final int status;
+    private final boolean read;
+    private final int version;
+    private final String by;
+    
+    public TicketReopenMessage(int ticketId, int status, boolean read, int version, String by) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.read = read;
+        this.version = version;
+        this.by = by;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return StringUtils.isNotBlank(by);
+    }
+    
+    public int getTicketId() {
+        return ticketId;
+    }
+    
+    public int getStatus() {
+        return status;
+    }
+    
+    public boolean isRead() {
+        return read;
+    }
+    
+    public int getVersion() {
+        return version;
+    }
+    
+    public String getBy() {
+        return by;
+    }
+    
+    public static class Codec implements MessageCodec<TicketReopenMessage> {
+        
+        @Override
+        public void write(DataOutput output, TicketReopenMessage message) throws IOException {
+            BinaryToolbox.writeVarInt(output, message.getTicketId());
+            BinaryToolbox.writeVarInt(output, message.getStatus());
+            output.writeBoolean(message.isRead());
+            BinaryToolbox.writeVarInt(output, message.getVersion());
+            BinaryToolbox.writeString(output, message.getBy());
+        }
+        
+        @Override
+        public TicketReopenMessage read(DataInput input) throws IOException {
+            return new TicketReopenMessage(BinaryToolbox.readVarInt(input), BinaryToolbox.readVarInt(input), input.readBoolean(), BinaryToolbox.readVarInt(input), BinaryToolbox.readString(input));
+        }
+    }
+}
\ No newline at end of file
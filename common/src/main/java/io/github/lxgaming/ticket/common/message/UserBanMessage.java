@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.message;
+
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.util.BinaryToolbox;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class UserBanMessage extends Message {
+    
+    private final UserData user;
+    private final String by;
+    
+    public UserBanMessage(UserData user, String by) {
+        this.user = user;
+        this.by = by;
+    }
+    
+    @Override
+    public boolean isValid() {
+        return user != null && StringUtils.isNotBlank(by);
+    }
+    
+    public UserData getUser() {
+        return user;
+    }
+    
+    public String getBy() {
+        return by;
+    }
+    
+    public static class Codec implements MessageCodec<UserBanMessage> {
+        
+        @Override
+        public void write(DataOutput output, UserBanMessage message) throws IOException {
+            BinaryToolbox.writeUser(output, message.getUser());
+            BinaryToolbox.writeString(output, message.getBy());
+        }
+        
+        @Override
+        public UserBanMessage read(DataInput input) throws IOException {
+            return new UserBanMessage(BinaryToolbox.readUser(input), BinaryToolbox.readString(input));
+        }
+    }
+}
\ No newline at end of file
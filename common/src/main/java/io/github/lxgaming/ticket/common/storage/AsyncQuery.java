@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncQuery {
+    
+    private volatile ExecutorService executorService;
+    
+    public void start(int threads) {
+        if (isRunning()) {
+            Ticket.getInstance().getLogger().warn("AsyncQuery is already running");
+            return;
+        }
+        
+        executorService = Executors.newFixedThreadPool(Math.max(threads, 1), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(Reference.ID + "-storage-%d")
+                .build());
+    }
+    
+    public void shutdown() {
+        if (!isRunning()) {
+            Ticket.getInstance().getLogger().warn("AsyncQuery is already shutdown");
+            return;
+        }
+        
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10L, TimeUnit.SECONDS)) {
+                Ticket.getInstance().getLogger().warn("AsyncQuery did not terminate within 10 seconds");
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        
+        executorService = null;
+    }
+    
+    public boolean isRunning() {
+        return executorService != null && !executorService.isShutdown();
+    }
+    
+    public CompletableFuture<CommentData> createComment(TicketData ticket, UUID uniqueId, Instant timestamp, String text) {
+        return supplyAsync(() -> getQuery().createComment(ticket, uniqueId, timestamp, text));
+    }
+    
+    public CompletableFuture<TicketData> createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) {
+        return supplyAsync(() -> getQuery().createTicket(uniqueId, timestamp, location, text));
+    }
+    
+    public CompletableFuture<UserData> createUser(UUID uniqueId) {
+        return supplyAsync(() -> getQuery().createUser(uniqueId));
+    }
+    
+    public CompletableFuture<Collection<CommentData>> getComments(int ticketId) {
+        return supplyAsync(() -> getQuery().getComments(ticketId));
+    }
+    
+    public CompletableFuture<TicketData> getTicket(int ticketId) {
+        return supplyAsync(() -> getQuery().getTicket(ticketId));
+    }
+    
+    public CompletableFuture<Collection<TicketData>> getTickets(Collection<Integer> ticketIds) {
+        return supplyAsync(() -> getQuery().getTickets(ticketIds));
+    }
+    
+    public CompletableFuture<Collection<Integer>> getOpenTickets() {
+        return supplyAsync(() -> getQuery().getOpenTickets());
+    }
+    
+    public CompletableFuture<Collection<Integer>> getUnreadTickets(UUID uniqueId) {
+        return supplyAsync(() -> getQuery().getUnreadTickets(uniqueId));
+    }
+    
+    public CompletableFuture<UserData> getUser(UUID uniqueId) {
+        return supplyAsync(() -> getQuery().getUser(uniqueId));
+    }
+    
+    public CompletableFuture<Collection<UUID>> getUsers(String name) {
+        return supplyAsync(() -> getQuery().getUsers(name));
+    }
+    
+    public CompletableFuture<Collection<UserData>> getUsers(Collection<UUID> uniqueIds) {
+        return supplyAsync(() -> getQuery().getUsers(uniqueIds));
+    }
+    
+    public CompletableFuture<List<Integer>> searchTickets(String query, int offset, int limit) {
+        return supplyAsync(() -> getQuery().searchTickets(query, offset, limit));
+    }
+    
+    public CompletableFuture<Boolean> updateTicket(TicketData ticket) {
+        return supplyAsync(() -> {
+            TicketImpl.getInstance().getWriteBehindQueue().removeTicket(ticket.getId());
+            return getQuery().updateTicket(ticket);
+        });
+    }
+    
+    public CompletableFuture<Boolean> updateUser(UserData user) {
+        return supplyAsync(() -> {
+            TicketImpl.getInstance().getWriteBehindQueue().removeUser(user.getUniqueId());
+            return getQuery().updateUser(user);
+        });
+    }
+    
+    public Executor getExecutor() {
+        ExecutorService executorService = this.executorService;
+        if (executorService == null || executorService.isShutdown()) {
+            throw new RejectedExecutionException("AsyncQuery is not running");
+        }
+        
+        return executorService;
+    }
+    
+    public <T> CompletableFuture<T> supplyAsync(Callable<T> callable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            getExecutor().execute(() -> {
+                try {
+                    future.complete(callable.call());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        
+        return future;
+    }
+    
+    private Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+}
\ No newline at end of file
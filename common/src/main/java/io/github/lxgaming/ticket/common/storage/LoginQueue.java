@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class LoginQueue {
+    
+    private final Queue<Login> logins = new ConcurrentLinkedQueue<>();
+    private final Object lock = new Object();
+    private volatile ScheduledExecutorService scheduledExecutorService;
+    
+    public void start(long interval) {
+        if (isRunning()) {
+            Ticket.getInstance().getLogger().warn("LoginQueue is already running");
+            return;
+        }
+        
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(Reference.ID + "-login-%d")
+                .build());
+        scheduledExecutorService.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    public void shutdown() {
+        if (!isRunning()) {
+            Ticket.getInstance().getLogger().warn("LoginQueue is already shutdown");
+            return;
+        }
+        
+        scheduledExecutorService.shutdown();
+        try {
+            if (!scheduledExecutorService.awaitTermination(10L, TimeUnit.SECONDS)) {
+                Ticket.getInstance().getLogger().warn("LoginQueue did not terminate within 10 seconds");
+                scheduledExecutorService.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            scheduledExecutorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        
+        scheduledExecutorService = null;
+        flush();
+    }
+    
+    public boolean isRunning() {
+        return scheduledExecutorService != null && !scheduledExecutorService.isShutdown();
+    }
+    
+    public CompletableFuture<Optional<Collection<TicketData>>> queueLogin(UUID uniqueId, String name) {
+        Login login = new Login(uniqueId, name);
+        logins.add(login);
+        return login.getFuture();
+    }
+    
+    public void flush() {
+        synchronized (lock) {
+            Map<UUID, Login> logins = Maps.newHashMap();
+            for (Login login = this.logins.poll(); login != null; login = this.logins.poll()) {
+                Login previousLogin = logins.put(login.getUniqueId(), login);
+                if (previousLogin != null) {
+                    login.getFuture().thenAccept(previousLogin.getFuture()::complete);
+                }
+            }
+            
+            if (logins.isEmpty()) {
+                return;
+            }
+            
+            try {
+                process(logins);
+                Ticket.getInstance().getLogger().debug("Processed {} logins", logins.size());
+            } catch (Exception ex) {
+                Ticket.getInstance().getLogger().error("Encountered an error processing LoginQueue::flush", ex);
+            } finally {
+                logins.values().forEach(login -> login.getFuture().complete(Optional.empty()));
+            }
+        }
+    }
+    
+    private void process(Map<UUID, Login> logins) throws Exception {
+        Map<UUID, UserData> users = DataManager.getUserCache().getAll(logins.keySet());
+        for (UserData user : users.values()) {
+            String name = logins.get(user.getUniqueId()).getName();
+            if (!StringUtils.equals(user.getName(), name)) {
+                Ticket.getInstance().getLogger().debug("Updating username: {} -> {}", user.getName(), name);
+                user.setName(name);
+                DataManager.queueUserName(user);
+            }
+        }
+        
+        if (users.isEmpty()) {
+            return;
+        }
+        
+        Map<UUID, Collection<Integer>> unreadTickets = getQuery().getUnreadTickets(users.keySet());
+        Set<Integer> ticketIds = Sets.newHashSet();
+        unreadTickets.values().forEach(ticketIds::addAll);
+        
+        Map<Integer, TicketData> tickets = ticketIds.isEmpty() ? Collections.emptyMap() : DataManager.getTicketCache().getAll(ticketIds);
+        for (UUID uniqueId : users.keySet()) {
+            Collection<TicketData> userTickets = Sets.newTreeSet();
+            for (int ticketId : unreadTickets.getOrDefault(uniqueId, Collections.emptySet())) {
+                TicketData ticket = tickets.get(ticketId);
+                if (ticket != null) {
+                    userTickets.add(ticket);
+                }
+            }
+            
+            logins.get(uniqueId).getFuture().complete(Optional.of(userTickets));
+        }
+    }
+    
+    private Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+    
+    private static class Login {
+        
+        private final UUID uniqueId;
+        private final String name;
+        private final CompletableFuture<Optional<Collection<TicketData>>> future = new CompletableFuture<>();
+        
+        private Login(UUID uniqueId, String name) {
+            this.uniqueId = uniqueId;
+            this.name = name;
+        }
+        
+        private UUID getUniqueId() {
+            return uniqueId;
+        }
+        
+        private String getName() {
+            return name;
+        }
+        
+        private CompletableFuture<Optional<Collection<TicketData>>> getFuture() {
+            return future;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public interface Migration {
+    
+    int getVersion();
+    
+    String getName();
+    
+    // Disabled migrations are skipped rather than recorded, enabling one later applies it after any higher
+    // versions so it must only depend on the base schema and must leave it usable by every other migration
+    default boolean isEnabled() {
+        return true;
+    }
+    
+    void migrate(Connection connection) throws SQLException;
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.util.Reference;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.NavigableMap;
+import java.util.Set;
+
+public class MigrationRunner {
+    
+    private static final int LOCK_TIMEOUT = 300;
+    private final NavigableMap<Integer, Migration> migrations = Maps.newTreeMap();
+    private final Set<Integer> appliedVersions = Sets.newConcurrentHashSet();
+    
+    public MigrationRunner register(Migration migration) {
+        if (getMigrations().putIfAbsent(migration.getVersion(), migration) != null) {
+            throw new IllegalArgumentException("Duplicate migration version " + migration.getVersion());
+        }
+        
+        return this;
+    }
+    
+    public boolean migrate(Connection connection) {
+        try {
+            // Proxies sharing a database would otherwise apply the same migration concurrently
+            String lockName = getLockName(connection);
+            if (lockName != null && !acquireLock(connection, lockName)) {
+                Ticket.getInstance().getLogger().error("Timed out waiting for another instance to finish migrating the schema");
+                return false;
+            }
+            
+            try {
+                migrateLocked(connection);
+            } finally {
+                if (lockName != null) {
+                    releaseLock(connection, lockName);
+                }
+            }
+            
+            return true;
+        } catch (SQLException ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing MigrationRunner::migrate", ex);
+            return false;
+        }
+    }
+    
+    public boolean isApplied(int version) {
+        return getAppliedVersions().contains(version);
+    }
+    
+    private void migrateLocked(Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "CREATE TABLE IF NOT EXISTS `schema_version` ("
+                + "`version` INT(11) NOT NULL,"
+                + "`name` VARCHAR(64) NOT NULL,"
+                + "`timestamp` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,"
+                + "PRIMARY KEY (`version`));")) {
+            preparedStatement.execute();
+        }
+        
+        getAppliedVersions().clear();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "SELECT `version` FROM `schema_version`")) {
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    getAppliedVersions().add(resultSet.getInt("version"));
+                }
+            }
+        }
+        
+        int latestVersion = getAppliedVersions().stream().mapToInt(Integer::intValue).max().orElse(0);
+        for (Migration migration : getMigrations().values()) {
+            if (isApplied(migration.getVersion()) || !migration.isEnabled()) {
+                continue;
+            }
+            
+            if (migration.getVersion() < latestVersion) {
+                Ticket.getInstance().getLogger().info("Applying migration {} ({}) after version {}", migration.getVersion(), migration.getName(), latestVersion);
+            } else {
+                Ticket.getInstance().getLogger().info("Applying migration {} ({})", migration.getVersion(), migration.getName());
+            }
+            
+            migration.migrate(connection);
+            
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "INSERT INTO `schema_version`(`version`, `name`) VALUES (?, ?)")) {
+                preparedStatement.setInt(1, migration.getVersion());
+                preparedStatement.setString(2, migration.getName());
+                preparedStatement.execute();
+            }
+            
+            getAppliedVersions().add(migration.getVersion());
+        }
+    }
+    
+    private String getLockName(Connection connection) throws SQLException {
+        // H2 holds an exclusive lock on its database file and the memory storage never reaches this runner
+        String productName = connection.getMetaData().getDatabaseProductName();
+        if (!StringUtils.equalsAnyIgnoreCase(productName, "MySQL", "MariaDB")) {
+            return null;
+        }
+        
+        // Named locks are server wide, the catalog keeps databases on the same server independent
+        return StringUtils.left(Reference.ID + "." + StringUtils.defaultString(connection.getCatalog()), 64);
+    }
+    
+    private boolean acquireLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            preparedStatement.setString(1, lockName);
+            preparedStatement.setInt(2, LOCK_TIMEOUT);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+    
+    private void releaseLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            preparedStatement.setString(1, lockName);
+            preparedStatement.execute();
+        }
+    }
+    
+    private NavigableMap<Integer, Migration> getMigrations() {
+        return migrations;
+    }
+    
+    private Set<Integer> getAppliedVersions() {
+        return appliedVersions;
+    }
+}
\ No newline at end of file
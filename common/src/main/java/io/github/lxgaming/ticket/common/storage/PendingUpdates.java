@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class PendingUpdates {
+    
+    private Map<Integer, Boolean> ticketReads = Maps.newHashMap();
+    private Map<UUID, String> userNames = Maps.newHashMap();
+    
+    public Map<Integer, Boolean> getTicketReads() {
+        return ticketReads;
+    }
+    
+    public Map<UUID, String> getUserNames() {
+        return userNames;
+    }
+}
\ No newline at end of file
@@ -23,13 +23,15 @@ import io.github.lxgaming.ticket.api.data.UserData;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface Query {
     
     boolean createTables();
     
-    CommentData createComment(int ticketId, UUID uniqueId, Instant timestamp, String text) throws Exception;
+    CommentData createComment(TicketData ticket, UUID uniqueId, Instant timestamp, String text) throws Exception;
     
     TicketData createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) throws Exception;
     
@@ -39,15 +41,29 @@ public interface Query {
     
     TicketData getTicket(int ticketId) throws Exception;
     
+    Collection<TicketData> getTickets(Collection<Integer> ticketIds) throws Exception;
+    
+    List<TicketData> getTicketsByUser(UUID uniqueId, int afterId, int limit) throws Exception;
+    
     Collection<Integer> getOpenTickets() throws Exception;
     
     Collection<Integer> getUnreadTickets(UUID uniqueId) throws Exception;
     
+    Map<UUID, Collection<Integer>> getUnreadTickets(Collection<UUID> uniqueIds) throws Exception;
+    
     UserData getUser(UUID uniqueId) throws Exception;
     
     Collection<UUID> getUsers(String name) throws Exception;
     
+    Collection<UserData> getUsers(Collection<UUID> uniqueIds) throws Exception;
+    
+    List<Integer> searchTickets(String query, int offset, int limit) throws Exception;
+    
     boolean updateTicket(TicketData ticket);
     
+    void updateTicketReads(Map<Integer, Boolean> ticketReads) throws Exception;
+    
     boolean updateUser(UserData user);
+    
+    void updateUserNames(Map<UUID, String> userNames) throws Exception;
 }
\ No newline at end of file
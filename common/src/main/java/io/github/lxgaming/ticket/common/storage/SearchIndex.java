@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class SearchIndex {
+    
+    private static final Pattern DELIMITER_PATTERN = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    // Matches the default innodb_ft_min_token_size so a query is accepted or rejected the same way by both backends
+    private static final int MINIMUM_TERM_LENGTH = 3;
+    private static final int MAXIMUM_TERMS = 16;
+    private final Map<String, Map<Integer, Integer>> postings = Maps.newConcurrentMap();
+    private final Set<Integer> ticketIds = Sets.newConcurrentHashSet();
+    
+    public void add(int ticketId, String text) {
+        Map<String, Integer> frequencies = Maps.newHashMap();
+        for (String term : DELIMITER_PATTERN.split(StringUtils.defaultString(text).toLowerCase(Locale.ROOT))) {
+            if (term.length() >= MINIMUM_TERM_LENGTH) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        
+        getTicketIds().add(ticketId);
+        frequencies.forEach((term, frequency) -> {
+            getPostings().computeIfAbsent(term, key -> Maps.newConcurrentMap()).merge(ticketId, frequency, Integer::sum);
+        });
+    }
+    
+    public void clear() {
+        getPostings().clear();
+        getTicketIds().clear();
+    }
+    
+    public List<Integer> search(String query, int offset, int limit) {
+        Set<String> terms = getTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        
+        Map<Integer, Double> scores = Maps.newHashMap();
+        int documents = Math.max(getTicketIds().size(), 1);
+        for (String term : terms) {
+            Map<Integer, Integer> posting = getPostings().get(term);
+            if (posting == null || posting.isEmpty()) {
+                continue;
+            }
+            
+            // Rare terms weigh more and repeated occurrences saturate, roughly what InnoDB FULLTEXT relevance does
+            double weight = Math.log(1.0D + ((double) documents / posting.size()));
+            for (Map.Entry<Integer, Integer> entry : posting.entrySet()) {
+                scores.merge(entry.getKey(), weight * entry.getValue() / (entry.getValue() + 1.2D), Double::sum);
+            }
+        }
+        
+        // Bounded heap keeps the worst retained result at the head, only the requested window is ever sorted
+        Comparator<Map.Entry<Integer, Double>> comparator = Map.Entry.<Integer, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+        int capacity = offset + limit;
+        PriorityQueue<Map.Entry<Integer, Double>> queue = new PriorityQueue<>(Math.min(capacity, Math.max(scores.size(), 1)), comparator);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (queue.size() < capacity) {
+                queue.add(entry);
+            } else if (comparator.compare(entry, queue.peek()) > 0) {
+                queue.poll();
+                queue.add(entry);
+            }
+        }
+        
+        List<Integer> ticketIds = Lists.newArrayListWithCapacity(queue.size());
+        while (!queue.isEmpty()) {
+            ticketIds.add(queue.poll().getKey());
+        }
+        
+        Collections.reverse(ticketIds);
+        if (offset >= ticketIds.size()) {
+            return Collections.emptyList();
+        }
+        
+        return Lists.newArrayList(ticketIds.subList(offset, ticketIds.size()));
+    }
+    
+    public static Set<String> getTerms(String query) {
+        Set<String> terms = Sets.newLinkedHashSet();
+        for (String term : DELIMITER_PATTERN.split(StringUtils.defaultString(query).toLowerCase(Locale.ROOT))) {
+            if (term.length() >= MINIMUM_TERM_LENGTH && terms.size() < MAXIMUM_TERMS) {
+                terms.add(term);
+            }
+        }
+        
+        return terms;
+    }
+    
+    private Map<String, Map<Integer, Integer>> getPostings() {
+        return postings;
+    }
+    
+    private Set<Integer> getTicketIds() {
+        return ticketIds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage;
+
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.configuration.Configuration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class WriteBehindQueue {
+    
+    private final Map<Integer, Boolean> ticketReads = Maps.newConcurrentMap();
+    private final Map<UUID, String> userNames = Maps.newConcurrentMap();
+    private final Object lock = new Object();
+    private volatile ScheduledExecutorService scheduledExecutorService;
+    
+    public void start(long interval) {
+        if (isRunning()) {
+            Ticket.getInstance().getLogger().warn("WriteBehindQueue is already running");
+            return;
+        }
+        
+        load();
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(Reference.ID + "-write-behind-%d")
+                .build());
+        scheduledExecutorService.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+    
+    public void shutdown() {
+        if (!isRunning()) {
+            Ticket.getInstance().getLogger().warn("WriteBehindQueue is already shutdown");
+            return;
+        }
+        
+        scheduledExecutorService.shutdown();
+        try {
+            if (!scheduledExecutorService.awaitTermination(10L, TimeUnit.SECONDS)) {
+                Ticket.getInstance().getLogger().warn("WriteBehindQueue did not terminate within 10 seconds");
+                scheduledExecutorService.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            scheduledExecutorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        
+        scheduledExecutorService = null;
+        if (!flush()) {
+            save();
+        }
+    }
+    
+    public boolean isRunning() {
+        return scheduledExecutorService != null && !scheduledExecutorService.isShutdown();
+    }
+    
+    public void queueTicketRead(int ticketId, boolean read) {
+        ticketReads.put(ticketId, read);
+    }
+    
+    public void queueUserName(UUID uniqueId, String name) {
+        userNames.put(uniqueId, name);
+    }
+    
+    // Waits for an in-flight flush so a direct write is never overwritten by an older queued value
+    public void removeTicket(int ticketId) {
+        synchronized (lock) {
+            ticketReads.remove(ticketId);
+        }
+    }
+    
+    public void removeUser(UUID uniqueId) {
+        synchronized (lock) {
+            userNames.remove(uniqueId);
+        }
+    }
+    
+    public boolean flush() {
+        synchronized (lock) {
+            return flushTicketReads() & flushUserNames();
+        }
+    }
+    
+    private boolean flushTicketReads() {
+        if (ticketReads.isEmpty()) {
+            return true;
+        }
+        
+        Map<Integer, Boolean> ticketReads = Maps.newHashMap(this.ticketReads);
+        try {
+            getQuery().updateTicketReads(ticketReads);
+            
+            // Entries replaced since the snapshot are kept for the next flush
+            ticketReads.forEach(this.ticketReads::remove);
+            Ticket.getInstance().getLogger().debug("Flushed {} ticket updates", ticketReads.size());
+            return true;
+        } catch (Exception ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing WriteBehindQueue::flushTicketReads", ex);
+            return false;
+        }
+    }
+    
+    private boolean flushUserNames() {
+        if (userNames.isEmpty()) {
+            return true;
+        }
+        
+        Map<UUID, String> userNames = Maps.newHashMap(this.userNames);
+        try {
+            getQuery().updateUserNames(userNames);
+            
+            // Entries replaced since the snapshot are kept for the next flush
+            userNames.forEach(this.userNames::remove);
+            Ticket.getInstance().getLogger().debug("Flushed {} user updates", userNames.size());
+            return true;
+        } catch (Exception ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing WriteBehindQueue::flushUserNames", ex);
+            return false;
+        }
+    }
+    
+    private void load() {
+        Path path = getPath();
+        if (!Files.exists(path)) {
+            return;
+        }
+        
+        Configuration.deserializeFile(path, PendingUpdates.class).ifPresent(pendingUpdates -> {
+            pendingUpdates.getTicketReads().forEach(ticketReads::putIfAbsent);
+            pendingUpdates.getUserNames().forEach(userNames::putIfAbsent);
+            Ticket.getInstance().getLogger().info("Loaded {} pending updates", pendingUpdates.getTicketReads().size() + pendingUpdates.getUserNames().size());
+        });
+        
+        try {
+            Files.delete(path);
+        } catch (Exception ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error while deleting {}", path, ex);
+        }
+    }
+    
+    private void save() {
+        PendingUpdates pendingUpdates = new PendingUpdates();
+        pendingUpdates.getTicketReads().putAll(ticketReads);
+        pendingUpdates.getUserNames().putAll(userNames);
+        if (Configuration.saveFile(getPath(), pendingUpdates)) {
+            Ticket.getInstance().getLogger().warn("Saved {} pending updates to {}", ticketReads.size() + userNames.size(), getPath());
+        }
+    }
+    
+    private Path getPath() {
+        return Ticket.getInstance().getPlatform().getPath().resolve("pending-updates.json");
+    }
+    
+    private Query getQuery() {
+        return TicketImpl.getInstance().getStorage().getQuery();
+    }
+}
\ No newline at end of file
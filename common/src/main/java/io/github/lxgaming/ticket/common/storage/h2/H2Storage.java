@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage.h2;
+
+import com.zaxxer.hikari.HikariConfig;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.common.configuration.category.StorageCategory;
+import io.github.lxgaming.ticket.common.storage.mysql.MySQLStorage;
+
+import java.nio.file.Path;
+
+public class H2Storage extends MySQLStorage {
+    
+    @Override
+    protected void configure(HikariConfig hikariConfig, StorageCategory storage) {
+        // MySQL compatibility mode allows the schema and queries to be shared with MySQLQuery
+        Path path = Ticket.getInstance().getPlatform().getPath().resolve(storage.getDatabase()).toAbsolutePath();
+        hikariConfig.setDriverClassName("org.h2.Driver");
+        hikariConfig.setJdbcUrl(String.format("jdbc:%s:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE", "h2", path));
+    }
+    
+    @Override
+    public boolean isFullTextSupported() {
+        // MATCH ... AGAINST is not part of the compatibility mode, MySQLQuery falls back to an in-memory index
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.memory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.storage.Query;
+import io.github.lxgaming.ticket.common.storage.SearchIndex;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MemoryQuery implements Query {
+    
+    private final MemoryStorage storage;
+    private final Map<UUID, UserData> users = Maps.newConcurrentMap();
+    private final NavigableMap<Integer, TicketData> tickets = new ConcurrentSkipListMap<>();
+    private final Map<Integer, NavigableSet<CommentData>> comments = Maps.newConcurrentMap();
+    private final SearchIndex searchIndex = new SearchIndex();
+    
+    // Mirrors AUTO_INCREMENT, identifiers start at 1 and are never reused
+    private final AtomicInteger ticketIdCounter = new AtomicInteger();
+    private final AtomicInteger commentIdCounter = new AtomicInteger();
+    private volatile long latency;
+    
+    MemoryQuery(MemoryStorage storage) {
+        this.storage = storage;
+    }
+    
+    @Override
+    public boolean createTables() {
+        return !storage.isClosed();
+    }
+    
+    @Override
+    public CommentData createComment(TicketData ticket, UUID uniqueId, Instant timestamp, String text) throws SQLException {
+        prepare();
+        if (!tickets.containsKey(ticket.getId()) || !users.containsKey(uniqueId)) {
+            throw new SQLException("Failed to create Comment");
+        }
+        
+        CommentData comment = new CommentData();
+        comment.setId(commentIdCounter.incrementAndGet());
+        comment.setTicket(ticket.getId());
+        comment.setUser(uniqueId);
+        comment.setTimestamp(timestamp);
+        comment.setText(text);
+        comments.computeIfAbsent(ticket.getId(), key -> new ConcurrentSkipListSet<>()).add(copy(comment));
+        TicketData storedTicket = tickets.computeIfPresent(ticket.getId(), (key, value) -> {
+            TicketData copy = copy(value);
+            copy.setVersion(value.getVersion() + 1);
+            return copy;
+        });
+        
+        if (storedTicket != null) {
+            ticket.setVersion(storedTicket.getVersion());
+        }
+        
+        searchIndex.add(ticket.getId(), text);
+        return comment;
+    }
+    
+    @Override
+    public TicketData createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) throws SQLException {
+        prepare();
+        if (!users.containsKey(uniqueId)) {
+            throw new SQLException("Failed to create Ticket");
+        }
+        
+        TicketData ticket = new TicketData();
+        ticket.setId(ticketIdCounter.incrementAndGet());
+        ticket.setUser(uniqueId);
+        ticket.setTimestamp(timestamp);
+        ticket.setLocation(location);
+        ticket.setText(text);
+        ticket.setComments(Sets.newTreeSet());
+        tickets.put(ticket.getId(), copy(ticket));
+        searchIndex.add(ticket.getId(), text);
+        return ticket;
+    }
+    
+    @Override
+    public UserData createUser(UUID uniqueId) throws SQLException {
+        prepare();
+        UserData user = new UserData();
+        user.setUniqueId(uniqueId);
+        user.setName(Ticket.getInstance().getPlatform().getUsername(uniqueId).orElse("Unknown"));
+        if (users.putIfAbsent(uniqueId, copy(user)) != null) {
+            throw new SQLException("Failed to create User");
+        }
+        
+        return user;
+    }
+    
+    @Override
+    public Collection<CommentData> getComments(int ticketId) throws SQLException {
+        prepare();
+        return getCommentsCopy(ticketId);
+    }
+    
+    @Override
+    public TicketData getTicket(int ticketId) throws SQLException {
+        prepare();
+        TicketData ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        
+        return copy(ticket);
+    }
+    
+    @Override
+    public Collection<TicketData> getTickets(Collection<Integer> ticketIds) throws SQLException {
+        prepare();
+        Collection<TicketData> tickets = Sets.newTreeSet();
+        for (Integer ticketId : ticketIds) {
+            TicketData ticket = this.tickets.get(ticketId);
+            if (ticket != null) {
+                ticket = copy(ticket);
+                ticket.getComments().addAll(getCommentsCopy(ticketId));
+                tickets.add(ticket);
+            }
+        }
+        
+        return tickets;
+    }
+    
+    @Override
+    public List<TicketData> getTicketsByUser(UUID uniqueId, int afterId, int limit) throws SQLException {
+        prepare();
+        List<TicketData> tickets = Lists.newArrayList();
+        for (TicketData ticket : this.tickets.tailMap(afterId, false).values()) {
+            if (tickets.size() >= limit) {
+                break;
+            }
+            
+            if (ticket.getUser().equals(uniqueId)) {
+                TicketData copy = copy(ticket);
+                copy.getComments().addAll(getCommentsCopy(ticket.getId()));
+                tickets.add(copy);
+            }
+        }
+        
+        return tickets;
+    }
+    
+    @Override
+    public Collection<Integer> getOpenTickets() throws SQLException {
+        prepare();
+        Collection<Integer> ticketIds = Sets.newTreeSet();
+        for (TicketData ticket : tickets.values()) {
+            if (ticket.getStatus() == 0) {
+                ticketIds.add(ticket.getId());
+            }
+        }
+        
+        return ticketIds;
+    }
+    
+    @Override
+    public Collection<Integer> getUnreadTickets(UUID uniqueId) throws SQLException {
+        prepare();
+        Collection<Integer> ticketIds = Sets.newTreeSet();
+        for (TicketData ticket : tickets.values()) {
+            if (ticket.getUser().equals(uniqueId) && ticket.getStatus() == 1 && !ticket.isRead()) {
+                ticketIds.add(ticket.getId());
+            }
+        }
+        
+        return ticketIds;
+    }
+    
+    @Override
+    public Map<UUID, Collection<Integer>> getUnreadTickets(Collection<UUID> uniqueIds) throws SQLException {
+        prepare();
+        Map<UUID, Collection<Integer>> ticketIds = Maps.newHashMap();
+        for (TicketData ticket : tickets.values()) {
+            if (uniqueIds.contains(ticket.getUser()) && ticket.getStatus() == 1 && !ticket.isRead()) {
+                ticketIds.computeIfAbsent(ticket.getUser(), key -> Sets.newTreeSet()).add(ticket.getId());
+            }
+        }
+        
+        return ticketIds;
+    }
+    
+    @Override
+    public UserData getUser(UUID uniqueId) throws SQLException {
+        prepare();
+        UserData user = users.get(uniqueId);
+        if (user == null) {
+            return null;
+        }
+        
+        return copy(user);
+    }
+    
+    @Override
+    public Collection<UUID> getUsers(String name) throws SQLException {
+        prepare();
+        Collection<UUID> uniqueIds = Sets.newHashSet();
+        for (UserData user : users.values()) {
+            // MySQL compares names using a case-insensitive collation
+            if (StringUtils.equalsIgnoreCase(user.getName(), name)) {
+                uniqueIds.add(user.getUniqueId());
+            }
+        }
+        
+        return uniqueIds;
+    }
+    
+    @Override
+    public Collection<UserData> getUsers(Collection<UUID> uniqueIds) throws SQLException {
+        prepare();
+        Collection<UserData> users = Sets.newHashSet();
+        for (UUID uniqueId : uniqueIds) {
+            UserData user = this.users.get(uniqueId);
+            if (user != null) {
+                users.add(copy(user));
+            }
+        }
+        
+        return users;
+    }
+    
+    @Override
+    public List<Integer> searchTickets(String query, int offset, int limit) throws SQLException {
+        prepare();
+        return searchIndex.search(query, offset, limit);
+    }
+    
+    @Override
+    public boolean updateTicket(TicketData ticket) {
+        try {
+            prepare();
+            TicketData storedTicket = tickets.computeIfPresent(ticket.getId(), (key, value) -> {
+                TicketData copy = copy(value);
+                copy.setRead(ticket.isRead());
+                copy.setStatus(ticket.getStatus());
+                copy.setVersion(value.getVersion() + 1);
+                return copy;
+            });
+            
+            if (storedTicket == null) {
+                return false;
+            }
+            
+            ticket.setVersion(storedTicket.getVersion());
+            return true;
+        } catch (SQLException ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing MemoryQuery::updateTicket", ex);
+            return false;
+        }
+    }
+    
+    @Override
+    public void updateTicketReads(Map<Integer, Boolean> ticketReads) throws SQLException {
+        prepare();
+        ticketReads.forEach((ticketId, read) -> tickets.computeIfPresent(ticketId, (key, value) -> {
+            TicketData copy = copy(value);
+            copy.setRead(read);
+            return copy;
+        }));
+    }
+    
+    @Override
+    public boolean updateUser(UserData user) {
+        try {
+            prepare();
+            return users.computeIfPresent(user.getUniqueId(), (key, value) -> {
+                UserData copy = copy(value);
+                copy.setBanned(user.isBanned());
+                copy.setName(user.getName());
+                return copy;
+            }) != null;
+        } catch (SQLException ex) {
+            Ticket.getInstance().getLogger().error("Encountered an error processing MemoryQuery::updateUser", ex);
+            return false;
+        }
+    }
+    
+    @Override
+    public void updateUserNames(Map<UUID, String> userNames) throws SQLException {
+        prepare();
+        userNames.forEach((uniqueId, name) -> users.computeIfPresent(uniqueId, (key, value) -> {
+            UserData copy = copy(value);
+            copy.setName(name);
+            return copy;
+        }));
+    }
+    
+    public void setLatency(long latency, TimeUnit unit) {
+        this.latency = unit.toNanos(Math.max(latency, 0L));
+    }
+    
+    void clear() {
+        users.clear();
+        tickets.clear();
+        comments.clear();
+        searchIndex.clear();
+        ticketIdCounter.set(0);
+        commentIdCounter.set(0);
+    }
+    
+    private void prepare() throws SQLException {
+        if (storage.isClosed()) {
+            throw new SQLException("MemoryStorage has been closed");
+        }
+        
+        long latency = this.latency;
+        if (latency <= 0L) {
+            return;
+        }
+        
+        try {
+            TimeUnit.NANOSECONDS.sleep(latency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while simulating latency", ex);
+        }
+    }
+    
+    private Collection<CommentData> getCommentsCopy(int ticketId) {
+        Collection<CommentData> comments = Sets.newTreeSet();
+        NavigableSet<CommentData> storedComments = this.comments.get(ticketId);
+        if (storedComments != null) {
+            for (CommentData comment : storedComments) {
+                comments.add(copy(comment));
+            }
+        }
+        
+        return comments;
+    }
+    
+    private CommentData copy(CommentData comment) {
+        CommentData copy = new CommentData();
+        copy.setId(comment.getId());
+        copy.setTicket(comment.getTicket());
+        copy.setUser(comment.getUser());
+        copy.setTimestamp(comment.getTimestamp());
+        copy.setText(comment.getText());
+        return copy;
+    }
+    
+    private LocationData copy(LocationData location) {
+        if (location == null) {
+            return null;
+        }
+        
+        LocationData copy = new LocationData();
+        copy.setX(location.getX());
+        copy.setY(location.getY());
+        copy.setZ(location.getZ());
+        copy.setDimension(location.getDimension());
+        copy.setServer(location.getServer());
+        return copy;
+    }
+    
+    private TicketData copy(TicketData ticket) {
+        TicketData copy = new TicketData();
+        copy.setId(ticket.getId());
+        copy.setUser(ticket.getUser());
+        copy.setTimestamp(ticket.getTimestamp());
+        copy.setLocation(copy(ticket.getLocation()));
+        copy.setText(ticket.getText());
+        copy.setStatus(ticket.getStatus());
+        copy.setRead(ticket.isRead());
+        copy.setVersion(ticket.getVersion());
+        copy.setComments(Sets.newTreeSet());
+        return copy;
+    }
+    
+    private UserData copy(UserData user) {
+        UserData copy = new UserData();
+        copy.setUniqueId(user.getUniqueId());
+        copy.setName(user.getName());
+        copy.setBanned(user.isBanned());
+        return copy;
+    }
+}
\ No newline at end of file
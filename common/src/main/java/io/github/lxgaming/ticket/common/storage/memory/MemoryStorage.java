@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.memory;
+
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.StorageCategory;
+import io.github.lxgaming.ticket.common.storage.Query;
+import io.github.lxgaming.ticket.common.storage.Storage;
+
+import java.util.concurrent.TimeUnit;
+
+public class MemoryStorage implements Storage {
+    
+    private final MemoryQuery query = new MemoryQuery(this);
+    private volatile boolean connected;
+    
+    @Override
+    public boolean connect() {
+        if (!isClosed()) {
+            Ticket.getInstance().getLogger().warn("MemoryStorage is already connected");
+            return true;
+        }
+        
+        TicketImpl.getInstance().getConfig().map(Config::getStorage).map(StorageCategory::getLatency).ifPresent(latency -> {
+            getQuery().setLatency(latency, TimeUnit.MILLISECONDS);
+        });
+        
+        connected = true;
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        if (isClosed()) {
+            Ticket.getInstance().getLogger().warn("MemoryStorage is already closed");
+            return;
+        }
+        
+        connected = false;
+        getQuery().clear();
+    }
+    
+    @Override
+    public boolean isClosed() {
+        return !connected;
+    }
+    
+    @Override
+    public MemoryQuery getQuery() {
+        return query;
+    }
+}
\ No newline at end of file
@@ -16,15 +16,26 @@
 
 package io.github.lxgaming.ticket.common.storage.mysql;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.google.gson.Gson;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.CommentData;
 import io.github.lxgaming.ticket.api.data.LocationData;
 import io.github.lxgaming.ticket.api.data.TicketData;
 import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.storage.MigrationRunner;
 import io.github.lxgaming.ticket.common.storage.Query;
+import io.github.lxgaming.ticket.common.storage.SearchIndex;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.HistoryMigration;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.IndexMigration;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.LocationMigration;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.SearchMigration;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.UniqueIdMigration;
+import io.github.lxgaming.ticket.common.storage.mysql.migration.VersionMigration;
 import io.github.lxgaming.ticket.common.util.Toolbox;
+import org.apache.commons.lang3.StringUtils;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -32,16 +43,38 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class MySQLQuery implements Query {
     
+    private static final int BATCH_SIZE = 500;
     private final MySQLStorage storage;
+    private final MigrationRunner migrationRunner;
+    private final Map<String, Integer> serverIds = Maps.newConcurrentMap();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final Set<Integer> indexedTicketIds = Sets.newHashSet();
+    private final Set<Integer> indexedCommentIds = Sets.newHashSet();
+    private int indexedTicketId;
+    private int indexedCommentId;
+    private volatile boolean binaryUniqueId;
+    private volatile boolean fullText;
     
     MySQLQuery(MySQLStorage storage) {
         this.storage = storage;
+        this.migrationRunner = new MigrationRunner()
+                .register(new IndexMigration())
+                .register(new UniqueIdMigration())
+                .register(new LocationMigration())
+                .register(new SearchMigration(storage))
+                .register(new HistoryMigration())
+                .register(new VersionMigration());
     }
     
     @Override
@@ -51,9 +84,8 @@ public class MySQLQuery implements Query {
                     + "CREATE TABLE IF NOT EXISTS `user` ("
                     + "`unique_id` CHAR(36) NOT NULL,"
                     + "`name` VARCHAR(16) NOT NULL,"
-                    + "`banned` TINYINT(1) UNSIGNED NOT NULL DEFAULT ?,"
+                    + "`banned` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0,"
                     + "PRIMARY KEY (`unique_id`));")) {
-                preparedStatement.setInt(1, 0);
                 preparedStatement.execute();
             }
             
@@ -64,12 +96,10 @@ public class MySQLQuery implements Query {
                     + "`timestamp` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,"
                     + "`location` TEXT NOT NULL,"
                     + "`text` TEXT NOT NULL,"
-                    + "`status` TINYINT(1) NOT NULL DEFAULT ?,"
-                    + "`read` TINYINT(1) NOT NULL DEFAULT ?,"
+                    + "`status` TINYINT(1) NOT NULL DEFAULT 0,"
+                    + "`read` TINYINT(1) NOT NULL DEFAULT 0,"
                     + "PRIMARY KEY (`id`),"
                     + "FOREIGN KEY (`user`) REFERENCES `user` (`unique_id`));")) {
-                preparedStatement.setInt(1, 0);
-                preparedStatement.setInt(2, 0);
                 preparedStatement.execute();
             }
             
@@ -86,6 +116,17 @@ public class MySQLQuery implements Query {
                 preparedStatement.execute();
             }
             
+            if (!migrationRunner.migrate(connection)) {
+                return false;
+            }
+            
+            // The schema decides the format, disabling the option cannot convert the columns back
+            binaryUniqueId = migrationRunner.isApplied(UniqueIdMigration.VERSION);
+            fullText = migrationRunner.isApplied(SearchMigration.VERSION);
+            if (!fullText) {
+                indexText(connection);
+            }
+            
             return true;
         } catch (SQLException ex) {
             Ticket.getInstance().getLogger().error("Encountered an error processing MySQLQuery::createTables", ex);
@@ -94,12 +135,13 @@ public class MySQLQuery implements Query {
     }
     
     @Override
-    public CommentData createComment(int ticketId, UUID uniqueId, Instant timestamp, String text) throws SQLException {
+    public CommentData createComment(TicketData ticket, UUID uniqueId, Instant timestamp, String text) throws SQLException {
         try (Connection connection = storage.getConnection()) {
+            connection.setAutoCommit(false);
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
-                    + "INSERT INTO `comment`(`ticket`, `user`, `timestamp`, `text`) VALUE (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
-                preparedStatement.setInt(1, ticketId);
-                preparedStatement.setString(2, uniqueId.toString());
+                    + "INSERT INTO `comment`(`ticket`, `user`, `timestamp`, `text`) VALUES (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                preparedStatement.setInt(1, ticket.getId());
+                setUniqueId(preparedStatement, 2, uniqueId);
                 preparedStatement.setTimestamp(3, Timestamp.from(timestamp));
                 preparedStatement.setString(4, text);
                 preparedStatement.execute();
@@ -111,24 +153,41 @@ public class MySQLQuery implements Query {
                     
                     CommentData comment = new CommentData();
                     comment.setId(resultSet.getInt(1));
-                    comment.setTicket(ticketId);
+                    comment.setTicket(ticket.getId());
                     comment.setUser(uniqueId);
                     comment.setTimestamp(timestamp);
                     comment.setText(text);
+                    
+                    int version = incrementVersion(connection, ticket.getId());
+                    connection.commit();
+                    
+                    ticket.setVersion(version);
+                    if (!fullText) {
+                        indexText(indexedCommentIds, comment.getId(), ticket.getId(), text);
+                    }
+                    
                     return comment;
                 }
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
             }
         }
     }
     
     public TicketData createTicket(UUID uniqueId, Instant timestamp, LocationData location, String text) throws SQLException {
         try (Connection connection = storage.getConnection()) {
+            Integer serverId = location != null ? getServerId(connection, location.getServer()) : null;
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
-                    + "INSERT INTO `ticket`(`user`, `timestamp`, `location`, `text`) VALUE (?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
-                preparedStatement.setString(1, uniqueId.toString());
+                    + "INSERT INTO `ticket`(`user`, `timestamp`, `x`, `y`, `z`, `dimension`, `server`, `text`) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                setUniqueId(preparedStatement, 1, uniqueId);
                 preparedStatement.setTimestamp(2, Timestamp.from(timestamp));
-                preparedStatement.setString(3, new Gson().toJson(location));
-                preparedStatement.setString(4, text);
+                preparedStatement.setObject(3, location != null ? location.getX() : null, Types.DOUBLE);
+                preparedStatement.setObject(4, location != null ? location.getY() : null, Types.DOUBLE);
+                preparedStatement.setObject(5, location != null ? location.getZ() : null, Types.DOUBLE);
+                preparedStatement.setObject(6, location != null ? location.getDimension() : null, Types.INTEGER);
+                preparedStatement.setObject(7, serverId, Types.INTEGER);
+                preparedStatement.setString(8, text);
                 preparedStatement.execute();
                 
                 try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
@@ -143,6 +202,10 @@ public class MySQLQuery implements Query {
                     ticket.setLocation(location);
                     ticket.setText(text);
                     ticket.setComments(Sets.newTreeSet());
+                    if (!fullText) {
+                        indexText(indexedTicketIds, ticket.getId(), ticket.getId(), text);
+                    }
+                    
                     return ticket;
                 }
             }
@@ -153,8 +216,8 @@ public class MySQLQuery implements Query {
         String username = Ticket.getInstance().getPlatform().getUsername(uniqueId).orElse("Unknown");
         try (Connection connection = storage.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
-                    + "INSERT INTO `user`(`unique_id`, `name`) VALUE (?, ?)")) {
-                preparedStatement.setString(1, uniqueId.toString());
+                    + "INSERT INTO `user`(`unique_id`, `name`) VALUES (?, ?)")) {
+                setUniqueId(preparedStatement, 1, uniqueId);
                 preparedStatement.setString(2, username);
                 
                 if (preparedStatement.executeUpdate() == 0) {
@@ -178,13 +241,7 @@ public class MySQLQuery implements Query {
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     Collection<CommentData> comments = Sets.newTreeSet();
                     while (resultSet.next()) {
-                        CommentData comment = new CommentData();
-                        comment.setId(resultSet.getInt("id"));
-                        comment.setTicket(resultSet.getInt("ticket"));
-                        comment.setUser(UUID.fromString(resultSet.getString("user")));
-                        comment.setTimestamp(resultSet.getTimestamp("timestamp").toInstant());
-                        comment.setText(resultSet.getString("text"));
-                        comments.add(comment);
+                        comments.add(readComment(resultSet));
                     }
                     
                     return comments;
@@ -196,7 +253,8 @@ public class MySQLQuery implements Query {
     public TicketData getTicket(int ticketId) throws SQLException {
         try (Connection connection = storage.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
-                    + "SELECT * FROM `ticket` WHERE `id` = ? LIMIT 0, 1")) {
+                    + "SELECT `ticket`.*, `server`.`name` AS `server_name` FROM `ticket` LEFT JOIN `server` ON `server`.`id` = `ticket`.`server` "
+                    + "WHERE `ticket`.`id` = ? LIMIT 0, 1")) {
                 preparedStatement.setInt(1, ticketId);
                 
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -204,19 +262,62 @@ public class MySQLQuery implements Query {
                         return null;
                     }
                     
-                    TicketData ticket = new TicketData();
-                    ticket.setId(resultSet.getInt("id"));
-                    ticket.setUser(UUID.fromString(resultSet.getString("user")));
-                    ticket.setTimestamp(resultSet.getTimestamp("timestamp").toInstant());
-                    ticket.setLocation(Toolbox.parseJson(resultSet.getString("location"), LocationData.class).orElse(null));
-                    ticket.setText(resultSet.getString("text"));
-                    ticket.setStatus(resultSet.getInt("status"));
-                    ticket.setRead(resultSet.getBoolean("read"));
-                    ticket.setComments(Sets.newTreeSet());
-                    return ticket;
+                    return readTicket(resultSet);
+                }
+            }
+        }
+    }
+    
+    public Collection<TicketData> getTickets(Collection<Integer> ticketIds) throws SQLException {
+        Map<Integer, TicketData> tickets = Maps.newHashMap();
+        try (Connection connection = storage.getConnection()) {
+            for (List<Integer> partition : Iterables.partition(ticketIds, BATCH_SIZE)) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                        + "SELECT `ticket`.*, `server`.`name` AS `server_name` FROM `ticket` LEFT JOIN `server` ON `server`.`id` = `ticket`.`server` "
+                        + "WHERE `ticket`.`id` IN (" + getPlaceholders(partition.size()) + ")")) {
+                    for (int index = 0; index < partition.size(); index++) {
+                        preparedStatement.setInt(index + 1, partition.get(index));
+                    }
+                    
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            TicketData ticket = readTicket(resultSet);
+                            tickets.put(ticket.getId(), ticket);
+                        }
+                    }
+                }
+                
+                readComments(connection, partition, tickets);
+            }
+        }
+        
+        return Sets.newTreeSet(tickets.values());
+    }
+    
+    public List<TicketData> getTicketsByUser(UUID uniqueId, int afterId, int limit) throws SQLException {
+        Map<Integer, TicketData> tickets = Maps.newLinkedHashMap();
+        try (Connection connection = storage.getConnection()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `ticket`.*, `server`.`name` AS `server_name` FROM `ticket` LEFT JOIN `server` ON `server`.`id` = `ticket`.`server` "
+                    + "WHERE `ticket`.`user` = ? AND `ticket`.`id` > ? ORDER BY `ticket`.`id` LIMIT ?")) {
+                setUniqueId(preparedStatement, 1, uniqueId);
+                preparedStatement.setInt(2, afterId);
+                preparedStatement.setInt(3, limit);
+                
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        TicketData ticket = readTicket(resultSet);
+                        tickets.put(ticket.getId(), ticket);
+                    }
                 }
             }
+            
+            if (!tickets.isEmpty()) {
+                readComments(connection, Lists.newArrayList(tickets.keySet()), tickets);
+            }
         }
+        
+        return Lists.newArrayList(tickets.values());
     }
     
     public Collection<Integer> getOpenTickets() throws SQLException {
@@ -241,7 +342,7 @@ public class MySQLQuery implements Query {
         try (Connection connection = storage.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
                     + "SELECT `id` FROM `ticket` WHERE `user` = ? AND `status` = ? AND `read` = ?")) {
-                preparedStatement.setString(1, uniqueId.toString());
+                setUniqueId(preparedStatement, 1, uniqueId);
                 preparedStatement.setInt(2, 1);
                 preparedStatement.setInt(3, 0);
                 
@@ -257,11 +358,35 @@ public class MySQLQuery implements Query {
         }
     }
     
+    public Map<UUID, Collection<Integer>> getUnreadTickets(Collection<UUID> uniqueIds) throws SQLException {
+        Map<UUID, Collection<Integer>> ticketIds = Maps.newHashMap();
+        try (Connection connection = storage.getConnection()) {
+            for (List<UUID> partition : Iterables.partition(uniqueIds, BATCH_SIZE)) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                        + "SELECT `id`, `user` FROM `ticket` WHERE `status` = ? AND `read` = ? AND `user` IN (" + getPlaceholders(partition.size()) + ")")) {
+                    preparedStatement.setInt(1, 1);
+                    preparedStatement.setInt(2, 0);
+                    for (int index = 0; index < partition.size(); index++) {
+                        setUniqueId(preparedStatement, index + 3, partition.get(index));
+                    }
+                    
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            ticketIds.computeIfAbsent(getUniqueId(resultSet, "user"), key -> Sets.newTreeSet()).add(resultSet.getInt("id"));
+                        }
+                    }
+                }
+            }
+        }
+        
+        return ticketIds;
+    }
+    
     public UserData getUser(UUID uniqueId) throws SQLException {
         try (Connection connection = storage.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
                     + "SELECT `name`, `banned` FROM `user` WHERE `unique_id` = ? LIMIT 0, 1")) {
-                preparedStatement.setString(1, uniqueId.toString());
+                setUniqueId(preparedStatement, 1, uniqueId);
                 
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     if (!resultSet.next()) {
@@ -287,7 +412,7 @@ public class MySQLQuery implements Query {
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
                     Collection<UUID> uniqueIds = Sets.newHashSet();
                     while (resultSet.next()) {
-                        uniqueIds.add(UUID.fromString(resultSet.getString("unique_id")));
+                        uniqueIds.add(getUniqueId(resultSet, "unique_id"));
                     }
                     
                     return uniqueIds;
@@ -296,14 +421,84 @@ public class MySQLQuery implements Query {
         }
     }
     
+    public Collection<UserData> getUsers(Collection<UUID> uniqueIds) throws SQLException {
+        Collection<UserData> users = Sets.newHashSet();
+        try (Connection connection = storage.getConnection()) {
+            for (List<UUID> partition : Iterables.partition(uniqueIds, BATCH_SIZE)) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                        + "SELECT `unique_id`, `name`, `banned` FROM `user` WHERE `unique_id` IN (" + getPlaceholders(partition.size()) + ")")) {
+                    for (int index = 0; index < partition.size(); index++) {
+                        setUniqueId(preparedStatement, index + 1, partition.get(index));
+                    }
+                    
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            UserData user = new UserData();
+                            user.setUniqueId(getUniqueId(resultSet, "unique_id"));
+                            user.setName(resultSet.getString("name"));
+                            user.setBanned(resultSet.getBoolean("banned"));
+                            users.add(user);
+                        }
+                    }
+                }
+            }
+        }
+        
+        return users;
+    }
+    
+    public List<Integer> searchTickets(String query, int offset, int limit) throws SQLException {
+        if (!fullText) {
+            return searchIndex.search(query, offset, limit);
+        }
+        
+        try (Connection connection = storage.getConnection()) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `id`, SUM(`score`) AS `score` FROM ("
+                    + "SELECT `id`, MATCH (`text`) AGAINST (? IN NATURAL LANGUAGE MODE) AS `score` FROM `ticket` WHERE MATCH (`text`) AGAINST (? IN NATURAL LANGUAGE MODE) "
+                    + "UNION ALL "
+                    + "SELECT `ticket` AS `id`, MATCH (`text`) AGAINST (? IN NATURAL LANGUAGE MODE) AS `score` FROM `comment` WHERE MATCH (`text`) AGAINST (? IN NATURAL LANGUAGE MODE)"
+                    + ") AS `result` GROUP BY `id` ORDER BY `score` DESC, `id` DESC LIMIT ?, ?")) {
+                for (int index = 1; index <= 4; index++) {
+                    preparedStatement.setString(index, query);
+                }
+                
+                preparedStatement.setInt(5, offset);
+                preparedStatement.setInt(6, limit);
+                
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    List<Integer> ticketIds = Lists.newArrayList();
+                    while (resultSet.next()) {
+                        ticketIds.add(resultSet.getInt("id"));
+                    }
+                    
+                    return ticketIds;
+                }
+            }
+        }
+    }
+    
     public boolean updateTicket(TicketData ticket) {
         try (Connection connection = storage.getConnection()) {
+            connection.setAutoCommit(false);
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
-                    + "UPDATE `ticket` SET `read` = ?, `status` = ? WHERE `id` = ?")) {
+                    + "UPDATE `ticket` SET `read` = ?, `status` = ?, `version` = `version` + 1 WHERE `id` = ?")) {
                 preparedStatement.setBoolean(1, ticket.isRead());
                 preparedStatement.setInt(2, ticket.getStatus());
                 preparedStatement.setInt(3, ticket.getId());
-                return preparedStatement.executeUpdate() != 0;
+                if (preparedStatement.executeUpdate() == 0) {
+                    connection.rollback();
+                    return false;
+                }
+                
+                // Read within the same transaction so concurrent updates each observe their own version
+                int version = getVersion(connection, ticket.getId());
+                connection.commit();
+                ticket.setVersion(version);
+                return true;
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
             }
         } catch (SQLException ex) {
             Ticket.getInstance().getLogger().error("Encountered an error processing MySQLQuery::updateTicket", ex);
@@ -311,13 +506,38 @@ public class MySQLQuery implements Query {
         }
     }
     
+    public void updateTicketReads(Map<Integer, Boolean> ticketReads) throws SQLException {
+        // Read flags are left out of the version as they are written behind without a message, bumping it would make
+        // every other proxy reload the ticket on its next update. Status messages carry the read flag to keep it converged.
+        try (Connection connection = storage.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "UPDATE `ticket` SET `read` = ? WHERE `id` = ?")) {
+                for (List<Map.Entry<Integer, Boolean>> partition : Iterables.partition(ticketReads.entrySet(), BATCH_SIZE)) {
+                    for (Map.Entry<Integer, Boolean> entry : partition) {
+                        preparedStatement.setBoolean(1, entry.getValue());
+                        preparedStatement.setInt(2, entry.getKey());
+                        preparedStatement.addBatch();
+                    }
+                    
+                    preparedStatement.executeBatch();
+                }
+                
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+    
     public boolean updateUser(UserData user) {
         try (Connection connection = storage.getConnection()) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(""
                     + "UPDATE `user` SET `banned` = ?, `name` = ? WHERE `unique_id` = ?")) {
                 preparedStatement.setBoolean(1, user.isBanned());
                 preparedStatement.setString(2, user.getName());
-                preparedStatement.setString(3, user.getUniqueId().toString());
+                setUniqueId(preparedStatement, 3, user.getUniqueId());
                 return preparedStatement.executeUpdate() != 0;
             }
         } catch (SQLException ex) {
@@ -325,4 +545,224 @@ public class MySQLQuery implements Query {
             return false;
         }
     }
+    
+    public void updateUserNames(Map<UUID, String> userNames) throws SQLException {
+        try (Connection connection = storage.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "UPDATE `user` SET `name` = ? WHERE `unique_id` = ?")) {
+                for (List<Map.Entry<UUID, String>> partition : Iterables.partition(userNames.entrySet(), BATCH_SIZE)) {
+                    for (Map.Entry<UUID, String> entry : partition) {
+                        preparedStatement.setString(1, entry.getValue());
+                        setUniqueId(preparedStatement, 2, entry.getKey());
+                        preparedStatement.addBatch();
+                    }
+                    
+                    preparedStatement.executeBatch();
+                }
+                
+                connection.commit();
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+    
+    private void indexText(Connection connection) throws SQLException {
+        // The index outlives reloads, only rows beyond the last scan are read and those indexed since are skipped
+        synchronized (searchIndex) {
+            int lastTicketId = indexedTicketId;
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `id`, `text` FROM `ticket` WHERE `id` > ? ORDER BY `id`")) {
+                preparedStatement.setInt(1, indexedTicketId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastTicketId = resultSet.getInt("id");
+                        indexText(indexedTicketIds, lastTicketId, lastTicketId, resultSet.getString("text"));
+                    }
+                }
+            }
+            
+            int lastCommentId = indexedCommentId;
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `id`, `ticket`, `text` FROM `comment` WHERE `id` > ? ORDER BY `id`")) {
+                preparedStatement.setInt(1, indexedCommentId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastCommentId = resultSet.getInt("id");
+                        indexText(indexedCommentIds, lastCommentId, resultSet.getInt("ticket"), resultSet.getString("text"));
+                    }
+                }
+            }
+            
+            // A locally created row may still be indexed after a scan has read it, ids are only forgotten once a later scan passes them
+            int previousTicketId = indexedTicketId;
+            int previousCommentId = indexedCommentId;
+            indexedTicketIds.removeIf(id -> id <= previousTicketId);
+            indexedCommentIds.removeIf(id -> id <= previousCommentId);
+            indexedTicketId = lastTicketId;
+            indexedCommentId = lastCommentId;
+        }
+    }
+    
+    // Ids are tracked individually rather than as a maximum, other writers can insert rows below a locally created one
+    private void indexText(Set<Integer> indexedIds, int id, int ticketId, String text) {
+        synchronized (searchIndex) {
+            if (indexedIds.add(id)) {
+                searchIndex.add(ticketId, text);
+            }
+        }
+    }
+    
+    private void readComments(Connection connection, List<Integer> ticketIds, Map<Integer, TicketData> tickets) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "SELECT * FROM `comment` WHERE `ticket` IN (" + getPlaceholders(ticketIds.size()) + ")")) {
+            for (int index = 0; index < ticketIds.size(); index++) {
+                preparedStatement.setInt(index + 1, ticketIds.get(index));
+            }
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    CommentData comment = readComment(resultSet);
+                    TicketData ticket = tickets.get(comment.getTicket());
+                    if (ticket != null) {
+                        ticket.getComments().add(comment);
+                    }
+                }
+            }
+        }
+    }
+    
+    private CommentData readComment(ResultSet resultSet) throws SQLException {
+        CommentData comment = new CommentData();
+        comment.setId(resultSet.getInt("id"));
+        comment.setTicket(resultSet.getInt("ticket"));
+        comment.setUser(getUniqueId(resultSet, "user"));
+        comment.setTimestamp(resultSet.getTimestamp("timestamp").toInstant());
+        comment.setText(resultSet.getString("text"));
+        return comment;
+    }
+    
+    private int incrementVersion(Connection connection, int ticketId) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "UPDATE `ticket` SET `version` = `version` + 1 WHERE `id` = ?")) {
+            preparedStatement.setInt(1, ticketId);
+            preparedStatement.execute();
+        }
+        
+        return getVersion(connection, ticketId);
+    }
+    
+    private int getVersion(Connection connection, int ticketId) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "SELECT `version` FROM `ticket` WHERE `id` = ?")) {
+            preparedStatement.setInt(1, ticketId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("Failed to get Ticket version");
+                }
+                
+                return resultSet.getInt("version");
+            }
+        }
+    }
+    
+    private TicketData readTicket(ResultSet resultSet) throws SQLException {
+        TicketData ticket = new TicketData();
+        ticket.setId(resultSet.getInt("id"));
+        ticket.setUser(getUniqueId(resultSet, "user"));
+        ticket.setTimestamp(resultSet.getTimestamp("timestamp").toInstant());
+        ticket.setLocation(readLocation(resultSet));
+        ticket.setText(resultSet.getString("text"));
+        ticket.setStatus(resultSet.getInt("status"));
+        ticket.setRead(resultSet.getBoolean("read"));
+        ticket.setVersion(resultSet.getInt("version"));
+        ticket.setComments(Sets.newTreeSet());
+        return ticket;
+    }
+    
+    private LocationData readLocation(ResultSet resultSet) throws SQLException {
+        LocationData location = new LocationData();
+        location.setX(resultSet.getObject("x", Double.class));
+        location.setY(resultSet.getObject("y", Double.class));
+        location.setZ(resultSet.getObject("z", Double.class));
+        location.setDimension(resultSet.getObject("dimension", Integer.class));
+        location.setServer(resultSet.getString("server_name"));
+        return location;
+    }
+    
+    private Integer getServerId(Connection connection, String name) throws SQLException {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        
+        Integer serverId = serverIds.get(name);
+        if (serverId != null) {
+            return serverId;
+        }
+        
+        serverId = selectServerId(connection, name);
+        if (serverId == null) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "INSERT INTO `server`(`name`) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+                preparedStatement.setString(1, name);
+                preparedStatement.execute();
+                
+                try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                    if (resultSet.next()) {
+                        serverId = resultSet.getInt(1);
+                    }
+                }
+            } catch (SQLException ex) {
+                // Another proxy may have inserted the same server first
+                serverId = selectServerId(connection, name);
+                if (serverId == null) {
+                    throw ex;
+                }
+            }
+            
+            if (serverId == null) {
+                throw new SQLException("Failed to create Server");
+            }
+        }
+        
+        serverIds.put(name, serverId);
+        return serverId;
+    }
+    
+    private Integer selectServerId(Connection connection, String name) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "SELECT `id` FROM `server` WHERE `name` = ? LIMIT 0, 1")) {
+            preparedStatement.setString(1, name);
+            
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                
+                return resultSet.getInt("id");
+            }
+        }
+    }
+    
+    private void setUniqueId(PreparedStatement preparedStatement, int index, UUID uniqueId) throws SQLException {
+        if (binaryUniqueId) {
+            preparedStatement.setBytes(index, Toolbox.toBytes(uniqueId));
+        } else {
+            preparedStatement.setString(index, uniqueId.toString());
+        }
+    }
+    
+    private UUID getUniqueId(ResultSet resultSet, String column) throws SQLException {
+        if (binaryUniqueId) {
+            return Toolbox.fromBytes(resultSet.getBytes(column));
+        }
+        
+        return UUID.fromString(resultSet.getString(column));
+    }
+    
+    private String getPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
 }
\ No newline at end of file
@@ -45,10 +45,7 @@ public class MySQLStorage implements Storage {
         
         HikariConfig hikariConfig = new HikariConfig();
         hikariConfig.setPoolName(Reference.ID + "-hikari");
-        hikariConfig.setDriverClassName("com.mysql.jdbc.Driver");
-        hikariConfig.setJdbcUrl(String.format("jdbc:%s://%s/%s", "mysql", storage.getAddress(), storage.getDatabase()));
-        hikariConfig.setUsername(storage.getUsername());
-        hikariConfig.setPassword(storage.getPassword());
+        configure(hikariConfig, storage);
         hikariConfig.setMaximumPoolSize(storage.getMaximumPoolSize());
         hikariConfig.setMinimumIdle(storage.getMinimumIdle());
         
@@ -56,6 +53,17 @@ public class MySQLStorage implements Storage {
         return hikariDataSource.isRunning();
     }
     
+    protected void configure(HikariConfig hikariConfig, StorageCategory storage) {
+        hikariConfig.setDriverClassName("com.mysql.jdbc.Driver");
+        hikariConfig.setJdbcUrl(String.format("jdbc:%s://%s/%s", "mysql", storage.getAddress(), storage.getDatabase()));
+        hikariConfig.setUsername(storage.getUsername());
+        hikariConfig.setPassword(storage.getPassword());
+    }
+    
+    public boolean isFullTextSupported() {
+        return true;
+    }
+    
     @Override
     public void close() {
         if (isClosed()) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import io.github.lxgaming.ticket.common.storage.Migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class HistoryMigration implements Migration {
+    
+    @Override
+    public int getVersion() {
+        return 5;
+    }
+    
+    @Override
+    public String getName() {
+        return "Create user ticket history index";
+    }
+    
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        MigrationToolbox.createIndex(connection, "ticket", "ticket_user_id", "`user`, `id`");
+    }
+}
\ No newline at end of file
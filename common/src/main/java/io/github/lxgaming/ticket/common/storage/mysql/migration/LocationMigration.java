@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.common.storage.Migration;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+public class LocationMigration implements Migration {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+    
+    @Override
+    public String getName() {
+        return "Split ticket locations into columns";
+    }
+    
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        MigrationToolbox.execute(connection, ""
+                + "CREATE TABLE IF NOT EXISTS `server` ("
+                + "`id` INT(11) NOT NULL AUTO_INCREMENT,"
+                + "`name` VARCHAR(64) NOT NULL,"
+                + "PRIMARY KEY (`id`),"
+                + "UNIQUE (`name`));");
+        
+        addColumn(connection, "x", "DOUBLE");
+        addColumn(connection, "y", "DOUBLE");
+        addColumn(connection, "z", "DOUBLE");
+        addColumn(connection, "dimension", "INT(11)");
+        addColumn(connection, "server", "INT(11)");
+        
+        if (MigrationToolbox.hasColumn(connection, "ticket", "location")) {
+            boolean autoCommit = connection.getAutoCommit();
+            try {
+                connection.setAutoCommit(false);
+                copyLocations(connection);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            
+            MigrationToolbox.execute(connection, "ALTER TABLE `ticket` DROP COLUMN `location`");
+        }
+        
+        if (MigrationToolbox.getForeignKeys(connection, "ticket", "server").isEmpty()) {
+            MigrationToolbox.execute(connection, "ALTER TABLE `ticket` ADD FOREIGN KEY (`server`) REFERENCES `server` (`id`)");
+        }
+        
+        MigrationToolbox.createIndex(connection, "ticket", "ticket_server_dimension", "`server`, `dimension`");
+    }
+    
+    private void addColumn(Connection connection, String column, String type) throws SQLException {
+        if (!MigrationToolbox.hasColumn(connection, "ticket", column)) {
+            MigrationToolbox.execute(connection, "ALTER TABLE `ticket` ADD COLUMN `" + column + "` " + type + " NULL");
+        }
+    }
+    
+    private void copyLocations(Connection connection) throws SQLException {
+        Map<String, Integer> serverIds = Maps.newHashMap();
+        int lastId = 0;
+        while (true) {
+            List<Integer> ids = Lists.newArrayList();
+            List<LocationData> locations = Lists.newArrayList();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `id`, `location` FROM `ticket` WHERE `id` > ? ORDER BY `id` LIMIT " + BATCH_SIZE)) {
+                preparedStatement.setInt(1, lastId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        ids.add(resultSet.getInt("id"));
+                        locations.add(Toolbox.parseJson(resultSet.getString("location"), LocationData.class).orElseGet(LocationData::new));
+                    }
+                }
+            }
+            
+            if (ids.isEmpty()) {
+                return;
+            }
+            
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "UPDATE `ticket` SET `x` = ?, `y` = ?, `z` = ?, `dimension` = ?, `server` = ? WHERE `id` = ?")) {
+                for (int index = 0; index < ids.size(); index++) {
+                    LocationData location = locations.get(index);
+                    preparedStatement.setObject(1, location.getX(), Types.DOUBLE);
+                    preparedStatement.setObject(2, location.getY(), Types.DOUBLE);
+                    preparedStatement.setObject(3, location.getZ(), Types.DOUBLE);
+                    preparedStatement.setObject(4, location.getDimension(), Types.INTEGER);
+                    preparedStatement.setObject(5, getServerId(connection, serverIds, location.getServer()), Types.INTEGER);
+                    preparedStatement.setInt(6, ids.get(index));
+                    preparedStatement.addBatch();
+                }
+                
+                preparedStatement.executeBatch();
+            }
+            
+            connection.commit();
+            lastId = ids.get(ids.size() - 1);
+            Ticket.getInstance().getLogger().debug("Converted ticket locations up to #{}", lastId);
+        }
+    }
+    
+    private Integer getServerId(Connection connection, Map<String, Integer> serverIds, String name) throws SQLException {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        
+        Integer serverId = serverIds.get(name);
+        if (serverId != null) {
+            return serverId;
+        }
+        
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "SELECT `id` FROM `server` WHERE `name` = ? LIMIT 0, 1")) {
+            preparedStatement.setString(1, name);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    serverId = resultSet.getInt("id");
+                }
+            }
+        }
+        
+        if (serverId == null) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "INSERT INTO `server`(`name`) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+                preparedStatement.setString(1, name);
+                preparedStatement.execute();
+                
+                try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                    if (!resultSet.next()) {
+                        throw new SQLException("Failed to create Server");
+                    }
+                    
+                    serverId = resultSet.getInt(1);
+                }
+            }
+        }
+        
+        serverIds.put(name, serverId);
+        return serverId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import com.google.common.collect.Lists;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+public class MigrationToolbox {
+    
+    public static void createIndex(Connection connection, String table, String index, String columns) throws SQLException {
+        // Guards against a previous run which failed part way through
+        if (hasIndex(connection, table, index)) {
+            return;
+        }
+        
+        try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                + "CREATE INDEX `" + index + "` ON `" + table + "` (" + columns + ")")) {
+            preparedStatement.execute();
+        }
+    }
+    
+    public static boolean hasIndex(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), null, table, false, false)) {
+            while (resultSet.next()) {
+                if (index.equalsIgnoreCase(resultSet.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    public static void dropIndex(Connection connection, String table, String index) throws SQLException {
+        if (hasIndex(connection, table, index)) {
+            execute(connection, "DROP INDEX `" + index + "` ON `" + table + "`");
+        }
+    }
+    
+    public static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+            while (resultSet.next()) {
+                if (column.equalsIgnoreCase(resultSet.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    public static boolean isBinary(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+            while (resultSet.next()) {
+                if (column.equalsIgnoreCase(resultSet.getString("COLUMN_NAME"))) {
+                    return resultSet.getInt("DATA_TYPE") == Types.BINARY;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    public static boolean hasPrimaryKey(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getPrimaryKeys(connection.getCatalog(), null, table)) {
+            return resultSet.next();
+        }
+    }
+    
+    public static List<String> getForeignKeys(Connection connection, String table, String column) throws SQLException {
+        List<String> foreignKeys = Lists.newArrayList();
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getImportedKeys(connection.getCatalog(), null, table)) {
+            while (resultSet.next()) {
+                if (column.equalsIgnoreCase(resultSet.getString("FKCOLUMN_NAME"))) {
+                    foreignKeys.add(resultSet.getString("FK_NAME"));
+                }
+            }
+        }
+        
+        return foreignKeys;
+    }
+    
+    public static void execute(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.execute();
+        }
+    }
+}
\ No newline at end of file
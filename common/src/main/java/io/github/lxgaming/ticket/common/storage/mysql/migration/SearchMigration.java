@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import io.github.lxgaming.ticket.common.storage.Migration;
+import io.github.lxgaming.ticket.common.storage.mysql.MySQLStorage;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class SearchMigration implements Migration {
+    
+    public static final int VERSION = 4;
+    private final MySQLStorage storage;
+    
+    public SearchMigration(MySQLStorage storage) {
+        this.storage = storage;
+    }
+    
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+    
+    @Override
+    public String getName() {
+        return "Create fulltext indexes";
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return storage.isFullTextSupported();
+    }
+    
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        if (!MigrationToolbox.hasIndex(connection, "ticket", "ticket_text")) {
+            MigrationToolbox.execute(connection, "CREATE FULLTEXT INDEX `ticket_text` ON `ticket` (`text`)");
+        }
+        
+        if (!MigrationToolbox.hasIndex(connection, "comment", "comment_text")) {
+            MigrationToolbox.execute(connection, "CREATE FULLTEXT INDEX `comment_text` ON `comment` (`text`)");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import com.google.common.collect.Lists;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.StorageCategory;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.storage.Migration;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class UniqueIdMigration implements Migration {
+    
+    public static final int VERSION = 2;
+    private static final int BATCH_SIZE = 500;
+    
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+    
+    @Override
+    public String getName() {
+        return "Convert unique ids to BINARY(16)";
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        StorageCategory storageCategory = TicketImpl.getInstance().getConfig().map(Config::getStorage).orElse(null);
+        if (storageCategory == null || !storageCategory.isBinaryUniqueId()) {
+            return false;
+        }
+        
+        // Proxies that are still running keep binding unique ids as strings, which fails once the columns are swapped
+        if (!storageCategory.isOfflineMigration()) {
+            Ticket.getInstance().getLogger().warn("Migration {} ({}) requires every other proxy using this database to be stopped, set storage.offlineMigration to true once they are", getVersion(), getName());
+            return false;
+        }
+        
+        // Only catches a reload, the transport is not started when migrations run during startup
+        Set<String> proxyIds = MessageManager.getRemoteProxyIds();
+        if (!proxyIds.isEmpty()) {
+            Ticket.getInstance().getLogger().warn("Migration {} ({}) is deferred as other proxies are still running: {}", getVersion(), getName(), String.join(", ", proxyIds));
+            return false;
+        }
+        
+        return true;
+    }
+    
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            // Rows are copied in small transactions so a run that fails part way can resume
+            addColumn(connection, "user", "unique_id");
+            addColumn(connection, "ticket", "user");
+            addColumn(connection, "comment", "user");
+            
+            connection.setAutoCommit(false);
+            copyUser(connection);
+            copyById(connection, "ticket", "user");
+            copyById(connection, "comment", "user");
+            connection.setAutoCommit(true);
+            
+            // Columns are only swapped once every row has been copied
+            dropForeignKeys(connection, "ticket", "user");
+            dropForeignKeys(connection, "comment", "user");
+            MigrationToolbox.dropIndex(connection, "ticket", "ticket_user_status_read");
+            MigrationToolbox.dropIndex(connection, "ticket", "ticket_user_id");
+            
+            if (MigrationToolbox.hasColumn(connection, "user", "unique_id_binary") && MigrationToolbox.hasPrimaryKey(connection, "user")) {
+                MigrationToolbox.execute(connection, "ALTER TABLE `user` DROP PRIMARY KEY");
+            }
+            
+            swapColumn(connection, "user", "unique_id");
+            if (!MigrationToolbox.hasPrimaryKey(connection, "user")) {
+                MigrationToolbox.execute(connection, "ALTER TABLE `user` ADD PRIMARY KEY (`unique_id`)");
+            }
+            
+            swapColumn(connection, "ticket", "user");
+            swapColumn(connection, "comment", "user");
+            
+            addForeignKey(connection, "ticket", "user");
+            addForeignKey(connection, "comment", "user");
+            MigrationToolbox.createIndex(connection, "ticket", "ticket_user_status_read", "`user`, `status`, `read`");
+            MigrationToolbox.createIndex(connection, "ticket", "ticket_user_id", "`user`, `id`");
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+    
+    private void addColumn(Connection connection, String table, String column) throws SQLException {
+        // The column is already binary when a previous run got as far as the swap
+        if (MigrationToolbox.hasColumn(connection, table, column + "_binary") || MigrationToolbox.isBinary(connection, table, column)) {
+            return;
+        }
+        
+        MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` ADD COLUMN `" + column + "_binary` BINARY(16) NULL");
+    }
+    
+    private void copyUser(Connection connection) throws SQLException {
+        if (!MigrationToolbox.hasColumn(connection, "user", "unique_id_binary")) {
+            return;
+        }
+        
+        String lastUniqueId = "";
+        while (true) {
+            List<String> uniqueIds = Lists.newArrayList();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `unique_id` FROM `user` WHERE `unique_id` > ? ORDER BY `unique_id` LIMIT " + BATCH_SIZE)) {
+                preparedStatement.setString(1, lastUniqueId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        uniqueIds.add(resultSet.getString("unique_id"));
+                    }
+                }
+            }
+            
+            if (uniqueIds.isEmpty()) {
+                return;
+            }
+            
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "UPDATE `user` SET `unique_id_binary` = ? WHERE `unique_id` = ?")) {
+                for (String uniqueId : uniqueIds) {
+                    preparedStatement.setBytes(1, Toolbox.toBytes(UUID.fromString(uniqueId)));
+                    preparedStatement.setString(2, uniqueId);
+                    preparedStatement.addBatch();
+                }
+                
+                preparedStatement.executeBatch();
+            }
+            
+            connection.commit();
+            lastUniqueId = uniqueIds.get(uniqueIds.size() - 1);
+            Ticket.getInstance().getLogger().debug("Converted user rows up to {}", lastUniqueId);
+        }
+    }
+    
+    private void copyById(Connection connection, String table, String column) throws SQLException {
+        if (!MigrationToolbox.hasColumn(connection, table, column + "_binary")) {
+            return;
+        }
+        
+        int lastId = 0;
+        while (true) {
+            List<Integer> ids = Lists.newArrayList();
+            List<String> uniqueIds = Lists.newArrayList();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "SELECT `id`, `" + column + "` FROM `" + table + "` WHERE `id` > ? ORDER BY `id` LIMIT " + BATCH_SIZE)) {
+                preparedStatement.setInt(1, lastId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        ids.add(resultSet.getInt("id"));
+                        uniqueIds.add(resultSet.getString(column));
+                    }
+                }
+            }
+            
+            if (ids.isEmpty()) {
+                return;
+            }
+            
+            try (PreparedStatement preparedStatement = connection.prepareStatement(""
+                    + "UPDATE `" + table + "` SET `" + column + "_binary` = ? WHERE `id` = ?")) {
+                for (int index = 0; index < ids.size(); index++) {
+                    preparedStatement.setBytes(1, Toolbox.toBytes(UUID.fromString(uniqueIds.get(index))));
+                    preparedStatement.setInt(2, ids.get(index));
+                    preparedStatement.addBatch();
+                }
+                
+                preparedStatement.executeBatch();
+            }
+            
+            connection.commit();
+            lastId = ids.get(ids.size() - 1);
+            Ticket.getInstance().getLogger().debug("Converted {} rows up to #{}", table, lastId);
+        }
+    }
+    
+    private void swapColumn(Connection connection, String table, String column) throws SQLException {
+        if (!MigrationToolbox.hasColumn(connection, table, column + "_binary")) {
+            return;
+        }
+        
+        MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` MODIFY `" + column + "_binary` BINARY(16) NOT NULL");
+        MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` DROP COLUMN `" + column + "`");
+        MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` CHANGE `" + column + "_binary` `" + column + "` BINARY(16) NOT NULL");
+    }
+    
+    private void addForeignKey(Connection connection, String table, String column) throws SQLException {
+        if (MigrationToolbox.getForeignKeys(connection, table, column).isEmpty()) {
+            MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` ADD FOREIGN KEY (`" + column + "`) REFERENCES `user` (`unique_id`)");
+        }
+    }
+    
+    private void dropForeignKeys(Connection connection, String table, String column) throws SQLException {
+        for (String foreignKey : MigrationToolbox.getForeignKeys(connection, table, column)) {
+            MigrationToolbox.execute(connection, "ALTER TABLE `" + table + "` DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.storage.mysql.migration;
+
+import io.github.lxgaming.ticket.common.storage.Migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class VersionMigration implements Migration {
+    
+    @Override
+    public int getVersion() {
+        return 6;
+    }
+    
+    @Override
+    public String getName() {
+        return "Add ticket version column";
+    }
+    
+    @Override
+    public void migrate(Connection connection) throws SQLException {
+        if (!MigrationToolbox.hasColumn(connection, "ticket", "version")) {
+            MigrationToolbox.execute(connection, "ALTER TABLE `ticket` ADD COLUMN `version` INT(11) NOT NULL DEFAULT 0");
+        }
+    }
+}
\ No newline at end of file
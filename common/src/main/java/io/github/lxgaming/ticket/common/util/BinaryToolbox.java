@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.util;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class BinaryToolbox {
+    
+    private static final int MAXIMUM_STRING_LENGTH = 32768;
+    
+    public static void writeVarInt(DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        
+        output.writeByte(value);
+    }
+    
+    public static int readVarInt(DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte current = input.readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        
+        throw new IOException("VarInt is too big");
+    }
+    
+    public static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        
+        output.writeByte((int) value);
+    }
+    
+    public static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte current = input.readByte();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        
+        throw new IOException("VarLong is too big");
+    }
+    
+    public static void writeString(DataOutput output, String string) throws IOException {
+        if (string == null) {
+            writeVarInt(output, 0);
+            return;
+        }
+        
+        // Length is offset by one so that zero can represent null
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAXIMUM_STRING_LENGTH) {
+            throw new IOException("String length " + bytes.length + " is out of bounds");
+        }
+        
+        writeVarInt(output, bytes.length + 1);
+        output.write(bytes);
+    }
+    
+    public static String readString(DataInput input) throws IOException {
+        int value = readVarInt(input);
+        if (value == 0) {
+            return null;
+        }
+        
+        // The length is checked before allocating as it comes straight from the network
+        int length = value - 1;
+        if (length < 0 || length > MAXIMUM_STRING_LENGTH) {
+            throw new IOException("String length " + length + " is out of bounds");
+        }
+        
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    public static void writeUniqueId(DataOutput output, UUID uniqueId) throws IOException {
+        output.writeLong(uniqueId.getMostSignificantBits());
+        output.writeLong(uniqueId.getLeastSignificantBits());
+    }
+    
+    public static UUID readUniqueId(DataInput input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+    
+    public static void writeUniqueIds(DataOutput output, Collection<UUID> uniqueIds) throws IOException {
+        writeVarInt(output, uniqueIds.size());
+        for (UUID uniqueId : uniqueIds) {
+            writeUniqueId(output, uniqueId);
+        }
+    }
+    
+    public static List<UUID> readUniqueIds(DataInput input) throws IOException {
+        int size = readVarInt(input);
+        List<UUID> uniqueIds = Lists.newArrayList();
+        for (int index = 0; index < size; index++) {
+            uniqueIds.add(readUniqueId(input));
+        }
+        
+        return uniqueIds;
+    }
+    
+    public static void writeInstant(DataOutput output, Instant instant) throws IOException {
+        writeVarLong(output, instant.getEpochSecond());
+        writeVarInt(output, instant.getNano());
+    }
+    
+    public static Instant readInstant(DataInput input) throws IOException {
+        return Instant.ofEpochSecond(readVarLong(input), readVarInt(input));
+    }
+    
+    public static void writeUser(DataOutput output, UserData user) throws IOException {
+        writeUniqueId(output, user.getUniqueId());
+        writeString(output, user.getName());
+        output.writeBoolean(user.isBanned());
+    }
+    
+    public static UserData readUser(DataInput input) throws IOException {
+        UserData user = new UserData();
+        user.setUniqueId(readUniqueId(input));
+        user.setName(readString(input));
+        user.setBanned(input.readBoolean());
+        return user;
+    }
+    
+    public static void writeComment(DataOutput output, CommentData comment) throws IOException {
+        writeVarInt(output, comment.getId());
+        writeVarInt(output, comment.getTicket());
+        writeUniqueId(output, comment.getUser());
+        writeInstant(output, comment.getTimestamp());
+        writeString(output, comment.getText());
+    }
+    
+    public static CommentData readComment(DataInput input) throws IOException {
+        CommentData comment = new CommentData();
+        comment.setId(readVarInt(input));
+        comment.setTicket(readVarInt(input));
+        comment.setUser(readUniqueId(input));
+        comment.setTimestamp(readInstant(input));
+        comment.setText(readString(input));
+        return comment;
+    }
+    
+    public static void writeLocation(DataOutput output, LocationData location) throws IOException {
+        // Each bit marks a field which is present, absent fields are not written
+        int flags = (location.getX() != null ? 0x01 : 0)
+                | (location.getY() != null ? 0x02 : 0)
+                | (location.getZ() != null ? 0x04 : 0)
+                | (location.getDimension() != null ? 0x08 : 0)
+                | (location.getServer() != null ? 0x10 : 0);
+        
+        output.writeByte(flags);
+        if (location.getX() != null) {
+            output.writeDouble(location.getX());
+        }
+        
+        if (location.getY() != null) {
+            output.writeDouble(location.getY());
+        }
+        
+        if (location.getZ() != null) {
+            output.writeDouble(location.getZ());
+        }
+        
+        if (location.getDimension() != null) {
+            writeVarInt(output, location.getDimension());
+        }
+        
+        if (location.getServer() != null) {
+            writeString(output, location.getServer());
+        }
+    }
+    
+    public static LocationData readLocation(DataInput input) throws IOException {
+        int flags = input.readUnsignedByte();
+        LocationData location = new LocationData();
+        if ((flags & 0x01) != 0) {
+            location.setX(input.readDouble());
+        }
+        
+        if ((flags & 0x02) != 0) {
+            location.setY(input.readDouble());
+        }
+        
+        if ((flags & 0x04) != 0) {
+            location.setZ(input.readDouble());
+        }
+        
+        if ((flags & 0x08) != 0) {
+            location.setDimension(readVarInt(input));
+        }
+        
+        if ((flags & 0x10) != 0) {
+            location.setServer(readString(input));
+        }
+        
+        return location;
+    }
+    
+    public static void writeTicket(DataOutput output, TicketData ticket) throws IOException {
+        writeVarInt(output, ticket.getId());
+        writeUniqueId(output, ticket.getUser());
+        writeInstant(output, ticket.getTimestamp());
+        writeLocation(output, ticket.getLocation());
+        writeString(output, ticket.getText());
+        writeVarInt(output, ticket.getStatus());
+        output.writeBoolean(ticket.isRead());
+        writeVarInt(output, ticket.getVersion());
+        writeVarInt(output, ticket.getComments().size());
+        for (CommentData comment : ticket.getComments()) {
+            writeComment(output, comment);
+        }
+    }
+    
+    public static TicketData readTicket(DataInput input) throws IOException {
+        TicketData ticket = new TicketData();
+        ticket.setId(readVarInt(input));
+        ticket.setUser(readUniqueId(input));
+        ticket.setTimestamp(readInstant(input));
+        ticket.setLocation(readLocation(input));
+        ticket.setText(readString(input));
+        ticket.setStatus(readVarInt(input));
+        ticket.setRead(input.readBoolean());
+        ticket.setVersion(readVarInt(input));
+        int size = readVarInt(input);
+        Collection<CommentData> comments = Sets.newTreeSet();
+        for (int index = 0; index < size; index++) {
+            comments.add(readComment(input));
+        }
+        
+        ticket.setComments(comments);
+        return ticket;
+    }
+}
\ No newline at end of file
@@ -150,6 +150,14 @@ public class Toolbox {
         return false;
     }
     
+    public static Optional<Double> parseDouble(String string) {
+        try {
+            return Optional.of(Double.parseDouble(string));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+    
     public static Optional<Integer> parseInteger(String string) {
         try {
             return Optional.of(Integer.parseInt(string));
@@ -182,6 +190,33 @@ public class Toolbox {
         }
     }
     
+    public static byte[] toBytes(UUID uniqueId) {
+        byte[] bytes = new byte[16];
+        long mostSignificantBits = uniqueId.getMostSignificantBits();
+        long leastSignificantBits = uniqueId.getLeastSignificantBits();
+        for (int index = 0; index < 8; index++) {
+            bytes[index] = (byte) (mostSignificantBits >>> (56 - (index << 3)));
+            bytes[index + 8] = (byte) (leastSignificantBits >>> (56 - (index << 3)));
+        }
+        
+        return bytes;
+    }
+    
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Expected 16 bytes but got " + bytes.length);
+        }
+        
+        long mostSignificantBits = 0L;
+        long leastSignificantBits = 0L;
+        for (int index = 0; index < 8; index++) {
+            mostSignificantBits = (mostSignificantBits << 8) | (bytes[index] & 0xFF);
+            leastSignificantBits = (leastSignificantBits << 8) | (bytes[index + 8] & 0xFF);
+        }
+        
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+    
     public static <T> Optional<T> newInstance(Class<? extends T> typeOfT) {
         try {
             return Optional.of(typeOfT.newInstance());
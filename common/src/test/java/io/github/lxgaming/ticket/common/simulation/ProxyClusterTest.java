@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.simulation;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProxyClusterTest {
+    
+    private static final int PROXIES = 3;
+    private static final int TICKETS = 4;
+    private static final int OPERATIONS = 100;
+    
+    @Test
+    void ticketUpdatesConverge() throws Exception {
+        try (ProxyCluster cluster = ProxyCluster.start(PROXIES)) {
+            UUID uniqueId = UUID.randomUUID();
+            List<Integer> ticketIds = Lists.newArrayList();
+            for (int index = 0; index < TICKETS; index++) {
+                ticketIds.add(cluster.getProxy(index % PROXIES).openTicket(uniqueId, "Ticket " + index));
+            }
+            
+            // Every proxy updates the same tickets concurrently while messages are delivered asynchronously
+            ExecutorService executorService = Executors.newFixedThreadPool(PROXIES);
+            try {
+                List<Future<?>> futures = Lists.newArrayList();
+                for (int index = 0; index < PROXIES; index++) {
+                    SimulatedProxy proxy = cluster.getProxy(index);
+                    Random random = new Random(index);
+                    futures.add(executorService.submit(() -> {
+                        for (int operation = 0; operation < OPERATIONS; operation++) {
+                            int ticketId = ticketIds.get(random.nextInt(ticketIds.size()));
+                            int action = random.nextInt(3);
+                            if (action == 0) {
+                                proxy.addComment(ticketId, uniqueId, "Comment " + operation);
+                            } else if (action == 1) {
+                                proxy.closeTicket(ticketId, uniqueId);
+                            } else {
+                                proxy.reopenTicket(ticketId, uniqueId);
+                            }
+                        }
+                        
+                        return null;
+                    }));
+                }
+                
+                for (Future<?> future : futures) {
+                    future.get(60L, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+            
+            assertTrue(cluster.awaitConvergence(ticketIds, 10L, TimeUnit.SECONDS), cluster.describe(ticketIds));
+            for (int ticketId : ticketIds) {
+                for (SimulatedProxy proxy : cluster.getProxies()) {
+                    assertNotNull(proxy.getCachedTicket(ticketId), "Ticket #" + ticketId + " is not cached");
+                }
+            }
+        }
+    }
+    
+    @Test
+    void presenceConverges() throws Exception {
+        try (ProxyCluster cluster = ProxyCluster.start(PROXIES)) {
+            UUID uniqueId = UUID.randomUUID();
+            cluster.getProxy(1).connect(uniqueId);
+            assertTrue(await(() -> cluster.getProxies().stream().allMatch(proxy -> proxy.isOnline(uniqueId))), "User is not online on every proxy");
+            
+            cluster.getProxy(1).disconnect(uniqueId);
+            assertTrue(await(() -> cluster.getProxies().stream().noneMatch(proxy -> proxy.isOnline(uniqueId))), "User is still online on a proxy");
+        }
+    }
+    
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            
+            Thread.sleep(10L);
+        }
+        
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.simulation;
+
+import io.github.lxgaming.ticket.api.Platform;
+import io.github.lxgaming.ticket.api.data.CommentData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.api.util.Logger;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.listener.AbstractMessageListener;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.LoopbackTransport;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
+import io.github.lxgaming.ticket.common.message.PresenceUpdateMessage;
+import io.github.lxgaming.ticket.common.message.TicketCloseMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
+import io.github.lxgaming.ticket.common.message.TicketReopenMessage;
+import io.github.lxgaming.ticket.common.storage.Query;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Only ever loaded through a ProxyClassLoader, every static manager it touches belongs to this proxy alone
+public class IsolatedProxy implements SimulatedProxy, Platform {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "simulated-proxy-receiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Path path;
+    
+    @Override
+    public void start(Path path, Set<Consumer<String>> channel) {
+        this.path = path;
+        TicketImpl ticket = new TicketImpl(this);
+        ticket.getLogger()
+                .add(Logger.Level.DEBUG, message -> {
+                })
+                .add(Logger.Level.INFO, message -> {
+                })
+                .add(Logger.Level.WARN, System.err::println)
+                .add(Logger.Level.ERROR, System.err::println);
+        
+        ticket.loadTicket();
+        new Listener().register();
+        
+        // Messages are received on a separate thread the same way a pub/sub subscription delivers them
+        MessageManager.setTransport(new LoopbackTransport(channel, executorService));
+        MessageManager.sendMessage(new PresenceMessage(PresenceManager.getLocalUsers(), true));
+    }
+    
+    @Override
+    public void stop() {
+        MessageManager.sendMessage(new PresenceMessage(Collections.emptySet(), false, Collections.emptySet()));
+        MessageManager.setTransport(null);
+        TicketImpl.getInstance().unloadTicket();
+        executorService.shutdownNow();
+    }
+    
+    @Override
+    public void connect(UUID uniqueId) {
+        PresenceManager.addUser(uniqueId);
+        MessageManager.sendMessage(new PresenceUpdateMessage(uniqueId, true));
+    }
+    
+    @Override
+    public void disconnect(UUID uniqueId) {
+        PresenceManager.removeUser(uniqueId);
+        MessageManager.sendMessage(new PresenceUpdateMessage(uniqueId, false));
+    }
+    
+    @Override
+    public boolean isOnline(UUID uniqueId) {
+        return PresenceManager.isOnline(uniqueId);
+    }
+    
+    @Override
+    public int openTicket(UUID uniqueId, String text) {
+        UserData user = getUser(uniqueId);
+        TicketData ticket = DataManager.createTicket(user.getUniqueId(), Instant.now(), null, text).join().orElseThrow(IllegalStateException::new);
+        MessageManager.sendMessage(new TicketOpenMessage(ticket, user));
+        return ticket.getId();
+    }
+    
+    @Override
+    public void addComment(int ticketId, UUID uniqueId, String text) {
+        UserData user = getUser(uniqueId);
+        TicketData ticket = getTicket(ticketId);
+        CommentData comment = DataManager.createComment(ticketId, user.getUniqueId(), Instant.now(), text).join().orElseThrow(IllegalStateException::new);
+        MessageManager.sendMessage(new TicketCommentMessage(ticketId, comment, ticket.getVersion(), user));
+    }
+    
+    @Override
+    public void closeTicket(int ticketId, UUID uniqueId) {
+        UserData user = getUser(uniqueId);
+        TicketData ticket = getTicket(ticketId);
+        ticket.setStatus(1);
+        ticket.setRead(false);
+        if (!DataManager.updateTicket(ticket).join()) {
+            throw new IllegalStateException("Failed to close ticket #" + ticketId);
+        }
+        
+        MessageManager.sendMessage(new TicketCloseMessage(ticketId, ticket.getStatus(), ticket.isRead(), ticket.getVersion(), user));
+    }
+    
+    @Override
+    public void reopenTicket(int ticketId, UUID uniqueId) {
+        UserData user = getUser(uniqueId);
+        TicketData ticket = getTicket(ticketId);
+        ticket.setStatus(0);
+        ticket.setRead(false);
+        if (!DataManager.updateTicket(ticket).join()) {
+            throw new IllegalStateException("Failed to reopen ticket #" + ticketId);
+        }
+        
+        MessageManager.sendMessage(new TicketReopenMessage(ticketId, ticket.getStatus(), ticket.isRead(), ticket.getVersion(), user.getName()));
+    }
+    
+    @Override
+    public int getCachedVersion(int ticketId) {
+        return DataManager.getCachedTicket(ticketId).map(TicketData::getVersion).orElse(-1);
+    }
+    
+    @Override
+    public String getCachedTicket(int ticketId) {
+        return DataManager.getCachedTicket(ticketId).map(this::describe).orElse(null);
+    }
+    
+    @Override
+    public String getStoredTicket(int ticketId) throws Exception {
+        Query query = TicketImpl.getInstance().getStorage().getQuery();
+        TicketData ticket = query.getTicket(ticketId);
+        if (ticket == null) {
+            return null;
+        }
+        
+        ticket.setComments(query.getComments(ticketId));
+        return describe(ticket);
+    }
+    
+    @Override
+    public Optional<String> getUsername(UUID uniqueId) {
+        return Optional.of(uniqueId.toString().substring(0, 16));
+    }
+    
+    @Override
+    public Path getPath() {
+        return path;
+    }
+    
+    private UserData getUser(UUID uniqueId) {
+        return DataManager.getOrCreateUser(uniqueId).join().orElseThrow(IllegalStateException::new);
+    }
+    
+    private TicketData getTicket(int ticketId) {
+        return DataManager.getTicket(ticketId).join().orElseThrow(() -> new IllegalStateException("Ticket #" + ticketId + " does not exist"));
+    }
+    
+    private String describe(TicketData ticket) {
+        synchronized (ticket) {
+            return String.format("#%d v%d status=%d read=%s comments=%s",
+                    ticket.getId(),
+                    ticket.getVersion(),
+                    ticket.getStatus(),
+                    ticket.isRead(),
+                    ticket.getComments().stream().map(CommentData::getId).sorted().collect(Collectors.toList()));
+        }
+    }
+    
+    private static class Listener extends AbstractMessageListener {
+        
+        @Override
+        protected void onTicketClose(TicketData ticket, UserData user) {
+        }
+        
+        @Override
+        protected void onTicketComment(TicketData ticket, UserData user) {
+        }
+        
+        @Override
+        protected void onTicketOpen(TicketData ticket, UserData user) {
+        }
+        
+        @Override
+        protected void onTicketReopen(TicketData ticket, String sender) {
+        }
+        
+        @Override
+        protected void onUserBan(UserData user, String sender) {
+        }
+        
+        @Override
+        protected void onUserPardon(UserData user, String sender) {
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.simulation;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+public class ProxyClassLoader extends URLClassLoader {
+    
+    private static final String PACKAGE_PREFIX = "io.github.lxgaming.ticket.";
+    
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+    
+    public ProxyClassLoader(URL[] urls, ClassLoader parent) {
+        super(urls, parent);
+    }
+    
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        // Plugin classes are loaded again so each proxy has its own managers, libraries and the boundary are shared
+        if (!name.startsWith(PACKAGE_PREFIX) || name.equals(SimulatedProxy.class.getName())) {
+            return super.loadClass(name, resolve);
+        }
+        
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass == null) {
+                try {
+                    loadedClass = findClass(name);
+                } catch (ClassNotFoundException ex) {
+                    return super.loadClass(name, resolve);
+                }
+            }
+            
+            if (resolve) {
+                resolveClass(loadedClass);
+            }
+            
+            return loadedClass;
+        }
+    }
+}
\ No newline at end of file
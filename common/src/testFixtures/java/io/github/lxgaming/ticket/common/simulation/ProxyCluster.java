@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.simulation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import io.github.lxgaming.ticket.api.Platform;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class ProxyCluster implements AutoCloseable {
+    
+    private static final String PROXY_CLASS = "io.github.lxgaming.ticket.common.simulation.IsolatedProxy";
+    private final Path path;
+    private final Set<Consumer<String>> channel = Sets.newCopyOnWriteArraySet();
+    private final List<SimulatedProxy> proxies = Lists.newCopyOnWriteArrayList();
+    private final List<ProxyClassLoader> classLoaders = Lists.newCopyOnWriteArrayList();
+    
+    private ProxyCluster(Path path) {
+        this.path = path;
+    }
+    
+    public static ProxyCluster start(int size) throws Exception {
+        ProxyCluster cluster = new ProxyCluster(Files.createTempDirectory(Reference.ID + "-cluster"));
+        try {
+            for (int index = 0; index < size; index++) {
+                cluster.addProxy();
+            }
+        } catch (Exception ex) {
+            try {
+                cluster.close();
+            } catch (Exception closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            
+            throw ex;
+        }
+        
+        return cluster;
+    }
+    
+    public SimulatedProxy addProxy() throws Exception {
+        String proxyId = "proxy-" + getProxies().size();
+        Path proxyPath = Files.createDirectories(path.resolve(proxyId));
+        
+        // An absolute database path resolves outside the proxy directory, H2 shares the open database within the JVM
+        Map<String, Object> config = ImmutableMap.of(
+                "proxyId", proxyId,
+                "storage", ImmutableMap.of(
+                        "type", "h2",
+                        "database", path.resolve("ticket").toAbsolutePath().toString()));
+        Files.write(proxyPath.resolve("config.json"), Toolbox.GSON.toJson(config).getBytes(StandardCharsets.UTF_8));
+        
+        ProxyClassLoader classLoader = new ProxyClassLoader(getUrls(), ProxyCluster.class.getClassLoader());
+        classLoaders.add(classLoader);
+        
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try {
+            // Threads created while starting inherit the proxy class loader, like they would inside a plugin
+            thread.setContextClassLoader(classLoader);
+            SimulatedProxy proxy = (SimulatedProxy) classLoader.loadClass(PROXY_CLASS).getDeclaredConstructor().newInstance();
+            proxy.start(proxyPath, channel);
+            proxies.add(proxy);
+            return proxy;
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+    
+    public boolean awaitConvergence(Collection<Integer> ticketIds, long timeout, TimeUnit unit) throws Exception {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isConverged(ticketIds)) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            
+            Thread.sleep(10L);
+        }
+        
+        return true;
+    }
+    
+    // Tickets which are not cached cannot be stale, cached copies must match storage exactly
+    public boolean isConverged(Collection<Integer> ticketIds) throws Exception {
+        for (int ticketId : ticketIds) {
+            String storedTicket = getProxy(0).getStoredTicket(ticketId);
+            for (SimulatedProxy proxy : getProxies()) {
+                String cachedTicket = proxy.getCachedTicket(ticketId);
+                if (cachedTicket != null && !cachedTicket.equals(storedTicket)) {
+                    return false;
+                }
+            }
+        }
+        
+        return true;
+    }
+    
+    public String describe(Collection<Integer> ticketIds) throws Exception {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int ticketId : ticketIds) {
+            stringBuilder.append("\nStored: ").append(getProxy(0).getStoredTicket(ticketId));
+            for (int index = 0; index < getProxies().size(); index++) {
+                stringBuilder.append("\nproxy-").append(index).append(": ").append(getProxy(index).getCachedTicket(ticketId));
+            }
+        }
+        
+        return stringBuilder.toString();
+    }
+    
+    public SimulatedProxy getProxy(int index) {
+        return getProxies().get(index);
+    }
+    
+    public List<SimulatedProxy> getProxies() {
+        return Collections.unmodifiableList(proxies);
+    }
+    
+    @Override
+    public void close() throws Exception {
+        // Everything is cleaned up before the first failure is thrown so a broken shutdown still fails the caller
+        List<Exception> exceptions = Lists.newArrayList();
+        for (SimulatedProxy proxy : getProxies()) {
+            try {
+                proxy.stop();
+            } catch (Exception ex) {
+                exceptions.add(ex);
+            }
+        }
+        
+        proxies.clear();
+        for (ProxyClassLoader classLoader : classLoaders) {
+            try {
+                classLoader.close();
+            } catch (IOException ex) {
+                exceptions.add(ex);
+            }
+        }
+        
+        classLoaders.clear();
+        try (Stream<Path> stream = Files.walk(path)) {
+            for (Path path : (Iterable<Path>) stream.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ex) {
+            exceptions.add(ex);
+        }
+        
+        if (!exceptions.isEmpty()) {
+            Exception exception = exceptions.get(0);
+            exceptions.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+    
+    private static URL[] getUrls() {
+        return Stream.of(Platform.class, TicketImpl.class, SimulatedProxy.class)
+                .map(type -> type.getProtectionDomain().getCodeSource().getLocation())
+                .distinct()
+                .toArray(URL[]::new);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.common.simulation;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Shared between class loaders, only JDK types may cross this boundary
+public interface SimulatedProxy {
+    
+    void start(Path path, Set<Consumer<String>> channel) throws Exception;
+    
+    void stop();
+    
+    void connect(UUID uniqueId);
+    
+    void disconnect(UUID uniqueId);
+    
+    boolean isOnline(UUID uniqueId);
+    
+    int openTicket(UUID uniqueId, String text) throws Exception;
+    
+    void addComment(int ticketId, UUID uniqueId, String text) throws Exception;
+    
+    void closeTicket(int ticketId, UUID uniqueId) throws Exception;
+    
+    void reopenTicket(int ticketId, UUID uniqueId) throws Exception;
+    
+    int getCachedVersion(int ticketId);
+    
+    String getCachedTicket(int ticketId);
+    
+    String getStoredTicket(int ticketId) throws Exception;
+}
\ No newline at end of file
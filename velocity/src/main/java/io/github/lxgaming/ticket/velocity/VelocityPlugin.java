@@ -25,7 +25,6 @@ import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.plugin.annotation.DataDirectory;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
-import io.github.lxgaming.redisvelocity.api.RedisVelocity;
 import io.github.lxgaming.ticket.api.Platform;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.util.Logger;
@@ -33,23 +32,32 @@ import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.configuration.Config;
 import io.github.lxgaming.ticket.common.manager.CommandManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.PresenceMessage;
 import io.github.lxgaming.ticket.velocity.command.BanCommand;
 import io.github.lxgaming.ticket.velocity.command.CloseCommand;
 import io.github.lxgaming.ticket.velocity.command.CommentCommand;
 import io.github.lxgaming.ticket.velocity.command.DebugCommand;
 import io.github.lxgaming.ticket.velocity.command.HelpCommand;
+import io.github.lxgaming.ticket.velocity.command.HistoryCommand;
+import io.github.lxgaming.ticket.velocity.command.NearCommand;
 import io.github.lxgaming.ticket.velocity.command.OpenCommand;
 import io.github.lxgaming.ticket.velocity.command.PardonCommand;
 import io.github.lxgaming.ticket.velocity.command.ReadCommand;
 import io.github.lxgaming.ticket.velocity.command.ReloadCommand;
 import io.github.lxgaming.ticket.velocity.command.ReopenCommand;
+import io.github.lxgaming.ticket.velocity.command.SearchCommand;
 import io.github.lxgaming.ticket.velocity.command.TicketCommand;
 import io.github.lxgaming.ticket.velocity.command.UserCommand;
-import io.github.lxgaming.ticket.velocity.listener.RedisListener;
+import io.github.lxgaming.ticket.velocity.listener.MessageListener;
 import io.github.lxgaming.ticket.velocity.listener.VelocityListener;
+import io.github.lxgaming.ticket.velocity.message.RedisTransport;
+import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -90,6 +98,11 @@ public class VelocityPlugin implements Platform {
                     }
                 });
         
+        getProxy().getAllPlayers().forEach(player -> {
+            // Players already connected when the plugin is enabled never fire a login event
+            PresenceManager.addUser(player.getUniqueId());
+            VelocityToolbox.updateNotifications(player);
+        });
         ticket.loadTicket();
         
         CommandManager.registerCommand(BanCommand.class);
@@ -97,39 +110,39 @@ public class VelocityPlugin implements Platform {
         CommandManager.registerCommand(CommentCommand.class);
         CommandManager.registerCommand(DebugCommand.class);
         CommandManager.registerCommand(HelpCommand.class);
+        CommandManager.registerCommand(HistoryCommand.class);
+        CommandManager.registerCommand(NearCommand.class);
         CommandManager.registerCommand(OpenCommand.class);
         CommandManager.registerCommand(PardonCommand.class);
         CommandManager.registerCommand(ReadCommand.class);
         CommandManager.registerCommand(ReloadCommand.class);
         CommandManager.registerCommand(ReopenCommand.class);
+        CommandManager.registerCommand(SearchCommand.class);
         CommandManager.registerCommand(UserCommand.class);
         getProxy().getCommandManager().register(new TicketCommand(), "ticket");
         getProxy().getEventManager().register(getInstance(), new VelocityListener());
         
+        new MessageListener().register();
+        
         if (getProxy().getPluginManager().isLoaded("redisvelocity")) {
             Ticket.getInstance().getLogger().info("RedisVelocity detected");
-            getProxy().getEventManager().register(getInstance(), new RedisListener());
-            RedisVelocity.getInstance().registerChannels(Reference.ID);
+            MessageManager.setTransport(new RedisTransport());
+            MessageManager.sendMessage(new PresenceMessage(PresenceManager.getLocalUsers(), true));
         }
     }
     
     @Subscribe
     public void onProxyShutdown(ProxyShutdownEvent event) {
-        if (getProxy().getPluginManager().isLoaded("redisvelocity")) {
-            RedisVelocity.getInstance().unregisterChannels(Reference.ID);
-        }
+        MessageManager.sendMessage(new PresenceMessage(Collections.emptySet(), false, Collections.emptySet()));
+        MessageManager.setTransport(null);
         
-        TicketImpl.getInstance().getStorage().close();
+        TicketImpl.getInstance().unloadTicket();
         Ticket.getInstance().getLogger().info("{} v{} unloaded", Reference.NAME, Reference.VERSION);
     }
     
     @Override
     public boolean isOnline(UUID uniqueId) {
-        if (uniqueId == Platform.CONSOLE_UUID) {
-            return true;
-        }
-        
-        return getProxy().getPlayer(uniqueId).map(Player::isActive).orElse(false);
+        return PresenceManager.isOnline(uniqueId);
     }
     
     @Override
@@ -16,14 +16,13 @@
 
 package io.github.lxgaming.ticket.velocity.command;
 
-import com.google.gson.JsonObject;
 import com.velocitypowered.api.command.CommandSource;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.UserData;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.UserBanMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
 import net.kyori.text.TextComponent;
@@ -66,30 +65,32 @@ public class BanCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getUser(uniqueId).orElse(null);
-        if (user == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find user", TextColor.RED)));
-            return;
-        }
-        
-        if (user.isBanned()) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of(user.getName(), TextColor.YELLOW)).append(TextComponent.of(" has already been banned", TextColor.RED)));
-            return;
-        }
-        
-        user.setBanned(true);
-        if (TicketImpl.getInstance().getStorage().getQuery().updateUser(user)) {
-            VelocityToolbox.sendRedisMessage("UserBan", (JsonObject jsonObject) -> {
-                jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-                jsonObject.addProperty("by", Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"));
-            });
+        DataManager.getUser(uniqueId).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find user", TextColor.RED)));
+                return;
+            }
             
-            VelocityToolbox.broadcast(null, "ticket.ban.notify", VelocityToolbox.getTextPrefix()
-                    .append(TextComponent.of(user.getName(), TextColor.YELLOW))
-                    .append(TextComponent.of(" was banned by ", TextColor.GREEN))
-                    .append(TextComponent.of(Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"), TextColor.YELLOW)));
-        } else {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to update ", TextColor.RED)).append(TextComponent.of(user.getName(), TextColor.YELLOW)));
-        }
+            if (user.isBanned()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of(user.getName(), TextColor.YELLOW)).append(TextComponent.of(" has already been banned", TextColor.RED)));
+                return;
+            }
+            
+            user.setBanned(true);
+            DataManager.updateUser(user).thenAccept(result -> {
+                if (!result) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to update ", TextColor.RED)).append(TextComponent.of(user.getName(), TextColor.YELLOW)));
+                    return;
+                }
+                
+                MessageManager.sendMessage(new UserBanMessage(user, Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown")));
+                
+                VelocityToolbox.broadcast(null, "ticket.ban.notify", VelocityToolbox.getTextPrefix()
+                        .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                        .append(TextComponent.of(" was banned by ", TextColor.GREEN))
+                        .append(TextComponent.of(Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"), TextColor.YELLOW)));
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
@@ -18,14 +18,14 @@ package io.github.lxgaming.ticket.velocity.command;
 
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.proxy.Player;
-import io.github.lxgaming.ticket.api.data.CommentData;
 import io.github.lxgaming.ticket.api.data.TicketData;
 import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketCloseMessage;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
@@ -78,61 +78,54 @@ public class CloseCommand extends AbstractCommand {
         
         ticket.setStatus(1);
         ticket.setRead(false);
-        if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        UserData user = DataManager.getOrCreateUser(VelocityToolbox.getUniqueId(source)).orElse(null);
-        if (user == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        VelocityToolbox.sendRedisMessage("TicketClose", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        TextComponent textComponent = VelocityToolbox.getTextPrefix()
-                .append(TextComponent.of("Ticket #" + ticket.getId() + " was closed by ", TextColor.GOLD))
-                .append(TextComponent.of(user.getName(), TextColor.YELLOW));
-        
-        String command = "/" + Reference.ID + " read " + ticket.getId();
-        
-        if (arguments.isEmpty()) {
-            // Forces the expiry to be recalculated
-            DataManager.getCachedTicket(ticketId);
-            Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
-            if (player != null) {
-                player.sendMessage(textComponent);
-                player.sendMessage(VelocityToolbox.getTextPrefix()
-                        .append(TextComponent.of("Use ", TextColor.GOLD))
-                        .append(TextComponent.of(command, TextColor.GREEN).clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, command)))
-                        .append(TextComponent.of(" to view your ticket", TextColor.GOLD)));
+        DataManager.updateTicket(ticket).thenAccept(result -> {
+            if (!result) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                return;
             }
             
-            VelocityToolbox.broadcast(player, "ticket.close.notify", textComponent);
-            return;
-        }
-        
-        String message = Toolbox.convertColor(String.join(" ", arguments));
-        if (message.length() > 256) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Message length may not exceed 256", TextColor.RED)));
-            return;
-        }
-        
-        CommentData comment = DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).orElse(null);
-        if (comment == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        VelocityToolbox.sendRedisMessage("TicketComment", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
+            DataManager.getOrCreateUser(VelocityToolbox.getUniqueId(source)).thenAccept(optionalUser -> {
+                UserData user = optionalUser.orElse(null);
+                if (user == null) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                    return;
+                }
+                
+                MessageManager.sendMessage(new TicketCloseMessage(ticket.getId(), ticket.getStatus(), ticket.isRead(), ticket.getVersion(), user));
+                
+                TextComponent textComponent = VelocityToolbox.getTextPrefix()
+                        .append(TextComponent.of("Ticket #" + ticket.getId() + " was closed by ", TextColor.GOLD))
+                        .append(TextComponent.of(user.getName(), TextColor.YELLOW));
+                
+                if (arguments.isEmpty()) {
+                    // Forces the expiry to be recalculated
+                    DataManager.getCachedTicket(ticketId);
+                    notify(ticket, textComponent);
+                    return;
+                }
+                
+                String message = Toolbox.convertColor(String.join(" ", arguments));
+                if (message.length() > 256) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Message length may not exceed 256", TextColor.RED)));
+                    return;
+                }
+                
+                DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).thenAccept(optionalComment -> {
+                    if (!optionalComment.isPresent()) {
+                        source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                        return;
+                    }
+                    
+                    MessageManager.sendMessage(new TicketCommentMessage(ticket.getId(), optionalComment.get(), ticket.getVersion(), user));
+                    
+                    notify(ticket, textComponent);
+                }).exceptionally(this::handleException);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
+    }
+    
+    private void notify(TicketData ticket, TextComponent textComponent) {
+        String command = "/" + Reference.ID + " read " + ticket.getId();
         Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
         if (player != null) {
             player.sendMessage(textComponent);
@@ -25,9 +25,10 @@ import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
 import io.github.lxgaming.ticket.common.configuration.Config;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketCommentMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
@@ -76,65 +77,67 @@ public class CommentCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getOrCreateUser(VelocityToolbox.getUniqueId(source)).orElse(null);
-        if (user == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        if (user.isBanned()) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have been banned", TextColor.RED)));
-            return;
-        }
-        
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket doesn't exist", TextColor.RED)));
-            return;
-        }
-        
-        if (!user.getUniqueId().equals(ticket.getUser()) && !source.hasPermission("ticket.comment.others")) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You are not the owner of that ticket", TextColor.RED)));
-            return;
-        }
-        
-        if (!source.hasPermission("ticket.comment.exempt.cooldown")) {
-            long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getCommentDelay).orElse(0L);
-            for (CommentData comment : ticket.getComments()) {
-                long duration = comment.getTimestamp().minusMillis(time).toEpochMilli();
-                if (duration > 0) {
-                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You need to wait " + (duration / 1000) + " seconds before adding another comment", TextColor.RED)));
-                    return;
-                }
+        DataManager.getOrCreateUser(VelocityToolbox.getUniqueId(source)).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                return;
             }
-        }
-        
-        CommentData comment = DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).orElse(null);
-        if (comment == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        VelocityToolbox.sendRedisMessage("TicketComment", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        TextComponent textComponent = VelocityToolbox.getTextPrefix()
-                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
-                .append(TextComponent.of(" added a comment to Ticket #" + ticket.getId(), TextColor.GOLD));
-        
-        Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
-        if (player != null) {
-            player.sendMessage(textComponent);
             
-            String command = "/" + Reference.ID + " read " + ticket.getId();
-            player.sendMessage(VelocityToolbox.getTextPrefix()
-                    .append(TextComponent.of("Use ", TextColor.GOLD))
-                    .append(TextComponent.of(command, TextColor.GREEN).clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, command)))
-                    .append(TextComponent.of(" to view your ticket", TextColor.GOLD)));
-        }
-        
-        VelocityToolbox.broadcast(player, "ticket.comment.notify", textComponent);
+            if (user.isBanned()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have been banned", TextColor.RED)));
+                return;
+            }
+            
+            DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+                TicketData ticket = optionalTicket.orElse(null);
+                if (ticket == null) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket doesn't exist", TextColor.RED)));
+                    return;
+                }
+                
+                if (!user.getUniqueId().equals(ticket.getUser()) && !source.hasPermission("ticket.comment.others")) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You are not the owner of that ticket", TextColor.RED)));
+                    return;
+                }
+                
+                if (!source.hasPermission("ticket.comment.exempt.cooldown")) {
+                    long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getCommentDelay).orElse(0L);
+                    for (CommentData comment : ticket.getComments()) {
+                        long duration = comment.getTimestamp().minusMillis(time).toEpochMilli();
+                        if (duration > 0) {
+                            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You need to wait " + (duration / 1000) + " seconds before adding another comment", TextColor.RED)));
+                            return;
+                        }
+                    }
+                }
+                
+                DataManager.createComment(ticket.getId(), user.getUniqueId(), Instant.now(), message).thenAccept(optionalComment -> {
+                    if (!optionalComment.isPresent()) {
+                        source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                        return;
+                    }
+                    
+                    MessageManager.sendMessage(new TicketCommentMessage(ticket.getId(), optionalComment.get(), ticket.getVersion(), user));
+                    
+                    TextComponent textComponent = VelocityToolbox.getTextPrefix()
+                            .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                            .append(TextComponent.of(" added a comment to Ticket #" + ticket.getId(), TextColor.GOLD));
+                    
+                    Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
+                    if (player != null) {
+                        player.sendMessage(textComponent);
+                        
+                        String command = "/" + Reference.ID + " read " + ticket.getId();
+                        player.sendMessage(VelocityToolbox.getTextPrefix()
+                                .append(TextComponent.of("Use ", TextColor.GOLD))
+                                .append(TextComponent.of(command, TextColor.GREEN).clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, command)))
+                                .append(TextComponent.of(" to view your ticket", TextColor.GOLD)));
+                    }
+                    
+                    VelocityToolbox.broadcast(player, "ticket.comment.notify", textComponent);
+                }).exceptionally(this::handleException);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
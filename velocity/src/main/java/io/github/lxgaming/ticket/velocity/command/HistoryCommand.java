@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.velocity.command;
+
+import com.velocitypowered.api.command.CommandSource;
+import io.github.lxgaming.ticket.api.Ticket;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
+import net.kyori.text.TextComponent;
+import net.kyori.text.event.ClickEvent;
+import net.kyori.text.format.TextColor;
+import net.kyori.text.format.TextDecoration;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class HistoryCommand extends AbstractCommand {
+    
+    public HistoryCommand() {
+        addAlias("history");
+        setDescription("Lists tickets opened by the requested User");
+        setPermission("ticket.history.base");
+        setUsage("<User> [Page]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSource source = (CommandSource) object;
+        if (arguments.isEmpty() || arguments.size() > 2) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Invalid arguments: " + getUsage(), TextColor.RED)));
+            return;
+        }
+        
+        String data = arguments.remove(0);
+        if (data.length() < 3 || (data.length() > 16 && data.length() != 36)) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Invalid argument length", TextColor.RED)));
+            return;
+        }
+        
+        int page = 1;
+        if (!arguments.isEmpty()) {
+            Integer value = Toolbox.parseInteger(arguments.remove(0)).orElse(null);
+            if (value == null || value < 1) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to parse page", TextColor.RED)));
+                return;
+            }
+            
+            page = value;
+        }
+        
+        if (data.length() == 36) {
+            UUID uniqueId = Toolbox.parseUUID(data).orElse(null);
+            if (uniqueId == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to parse unique id", TextColor.RED)));
+                return;
+            }
+            
+            sendHistory(source, uniqueId, page);
+            return;
+        }
+        
+        int currentPage = page;
+        DataManager.getUsers(data).thenAccept(optionalUsers -> {
+            Collection<UserData> users = optionalUsers.orElse(null);
+            if (users == null || users.isEmpty()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Fail to find users by the name of ", TextColor.RED)).append(TextComponent.of(data, TextColor.YELLOW)));
+                return;
+            }
+            
+            if (users.size() == 1) {
+                sendHistory(source, users.iterator().next().getUniqueId(), currentPage);
+                return;
+            }
+            
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" Users ", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
+            for (UserData user : users) {
+                TextComponent.Builder textBuilder = TextComponent.builder("");
+                textBuilder.clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " history " + user.getUniqueId()));
+                textBuilder.append(TextComponent.of("> ", TextColor.BLUE));
+                
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
+                } else {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+                }
+                
+                textBuilder.append(TextComponent.of(" (", TextColor.DARK_GRAY)).append(TextComponent.of(user.getUniqueId().toString(), TextColor.GRAY)).append(TextComponent.of(")", TextColor.DARK_GRAY));
+                source.sendMessage(textBuilder.build());
+            }
+        }).exceptionally(this::handleException);
+    }
+    
+    private void sendHistory(CommandSource source, UUID uniqueId, int page) {
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        DataManager.getTicketHistory(uniqueId, page, pageSize).thenAccept(optionalTickets -> {
+            List<TicketData> tickets = optionalTickets.orElse(null);
+            if (tickets == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                return;
+            }
+            
+            if (tickets.isEmpty()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("There are no tickets on that page", TextColor.YELLOW)));
+                return;
+            }
+            
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" Ticket History ", TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
+            
+            tickets.stream().limit(pageSize).forEach(ticket -> source.sendMessage(VelocityToolbox.buildTicket(ticket)));
+            source.sendMessage(VelocityToolbox.buildPagination(page, tickets.size() > pageSize, value -> "/" + Reference.ID + " history " + uniqueId + " " + value));
+        }).exceptionally(this::handleException);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.velocity.command;
+
+import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ServerConnection;
+import com.velocitypowered.api.proxy.server.ServerInfo;
+import io.github.lxgaming.location.api.Location;
+import io.github.lxgaming.ticket.api.data.LocationData;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import io.github.lxgaming.ticket.velocity.VelocityPlugin;
+import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
+import net.kyori.text.TextComponent;
+import net.kyori.text.format.TextColor;
+import net.kyori.text.format.TextDecoration;
+
+import java.util.Collection;
+import java.util.List;
+
+public class NearCommand extends AbstractCommand {
+    
+    public NearCommand() {
+        addAlias("near");
+        addAlias("nearby");
+        setDescription("Lists Open tickets near your location");
+        setPermission("ticket.near.base");
+        setUsage("[Radius]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSource source = (CommandSource) object;
+        if (!(source instanceof Player)) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("This command can only be executed by players.", TextColor.RED)));
+            return;
+        }
+        
+        Player player = (Player) source;
+        double radius;
+        if (!arguments.isEmpty()) {
+            radius = Toolbox.parseDouble(arguments.remove(0)).filter(value -> value > 0.0D && !value.isInfinite()).orElse(-1.0D);
+        } else {
+            radius = TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getNearbyRadius).orElse(64.0D);
+        }
+        
+        if (radius <= 0.0D) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to parse radius", TextColor.RED)));
+            return;
+        }
+        
+        LocationData location = new LocationData();
+        if (VelocityPlugin.getInstance().getProxy().getPluginManager().isLoaded("location")) {
+            Location.getInstance().getUser(player.getUniqueId()).ifPresent(locationUser -> {
+                location.setX(locationUser.getX());
+                location.setY(locationUser.getY());
+                location.setZ(locationUser.getZ());
+                if (locationUser.getDimension() != null) {
+                    location.setDimension(locationUser.getDimension().getId());
+                }
+                
+                location.setServer(locationUser.getServer());
+            });
+        }
+        
+        Collection<TicketData> tickets;
+        if (location.getX() != null && location.getZ() != null) {
+            tickets = DataManager.getCachedNearbyTickets(location, radius);
+        } else {
+            // Without coordinates the closest approximation is the server the player is connected to
+            tickets = DataManager.getCachedOpenTickets(player.getCurrentServer().map(ServerConnection::getServerInfo).map(ServerInfo::getName).orElse(null));
+        }
+        
+        tickets.removeIf(ticket -> {
+            return !player.getUniqueId().equals(ticket.getUser()) && !source.hasPermission("ticket.read.others");
+        });
+        
+        if (tickets.isEmpty()) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("There are no open tickets nearby", TextColor.YELLOW)));
+            return;
+        }
+        
+        source.sendMessage(TextComponent.builder("")
+                .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                .append(TextComponent.of(" " + tickets.size(), TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
+                .append(TextComponent.of(" Nearby " + Toolbox.formatUnit(tickets.size(), "Ticket", "Tickets") + " ", TextColor.GREEN))
+                .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                .build());
+        
+        tickets.forEach(ticket -> source.sendMessage(VelocityToolbox.buildTicket(ticket)));
+    }
+}
\ No newline at end of file
@@ -27,9 +27,10 @@ import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
 import io.github.lxgaming.ticket.common.configuration.Config;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketOpenMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
@@ -72,67 +73,68 @@ public class OpenCommand extends AbstractCommand {
             return;
         }
         
-        UserData user = DataManager.getOrCreateUser(player.getUniqueId()).orElse(null);
-        if (user == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        if (user.isBanned()) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have been banned", TextColor.RED)));
-            return;
-        }
-        
-        Collection<TicketData> tickets = DataManager.getCachedOpenTickets(user.getUniqueId());
-        if (!source.hasPermission("ticket.open.exempt.max")) {
-            if (tickets.size() >= TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getMaximumTickets).orElse(0)) {
-                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have too many open tickets", TextColor.RED)));
+        DataManager.getOrCreateUser(player.getUniqueId()).thenAccept(optionalUser -> {
+            UserData user = optionalUser.orElse(null);
+            if (user == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
                 return;
             }
-        }
-        
-        if (!source.hasPermission("ticket.open.exempt.cooldown")) {
-            long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getOpenDelay).orElse(0L);
-            for (TicketData ticket : tickets) {
-                long duration = ticket.getTimestamp().minusMillis(time).toEpochMilli();
-                if (duration > 0) {
-                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You need to wait " + (duration / 1000) + " seconds before opening another ticket", TextColor.RED)));
+            
+            if (user.isBanned()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have been banned", TextColor.RED)));
+                return;
+            }
+            
+            Collection<TicketData> tickets = DataManager.getCachedOpenTickets(user.getUniqueId());
+            if (!source.hasPermission("ticket.open.exempt.max")) {
+                if (tickets.size() >= TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getMaximumTickets).orElse(0)) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You have too many open tickets", TextColor.RED)));
                     return;
                 }
             }
-        }
-        
-        LocationData location = new LocationData();
-        if (VelocityPlugin.getInstance().getProxy().getPluginManager().isLoaded("location")) {
-            Location.getInstance().getUser(user.getUniqueId()).ifPresent(locationUser -> {
-                location.setX(locationUser.getX());
-                location.setY(locationUser.getY());
-                location.setZ(locationUser.getZ());
-                if (locationUser.getDimension() != null) {
-                    location.setDimension(locationUser.getDimension().getId());
+            
+            if (!source.hasPermission("ticket.open.exempt.cooldown")) {
+                long time = System.currentTimeMillis() - TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getOpenDelay).orElse(0L);
+                for (TicketData ticket : tickets) {
+                    long duration = ticket.getTimestamp().minusMillis(time).toEpochMilli();
+                    if (duration > 0) {
+                        source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You need to wait " + (duration / 1000) + " seconds before opening another ticket", TextColor.RED)));
+                        return;
+                    }
+                }
+            }
+            
+            LocationData location = new LocationData();
+            if (VelocityPlugin.getInstance().getProxy().getPluginManager().isLoaded("location")) {
+                Location.getInstance().getUser(user.getUniqueId()).ifPresent(locationUser -> {
+                    location.setX(locationUser.getX());
+                    location.setY(locationUser.getY());
+                    location.setZ(locationUser.getZ());
+                    if (locationUser.getDimension() != null) {
+                        location.setDimension(locationUser.getDimension().getId());
+                    }
+                    
+                    location.setServer(locationUser.getServer());
+                });
+            } else {
+                player.getCurrentServer().map(ServerConnection::getServerInfo).map(ServerInfo::getName).ifPresent(location::setServer);
+            }
+            
+            DataManager.createTicket(user.getUniqueId(), Instant.now(), location, message).thenAccept(optionalTicket -> {
+                TicketData ticket = optionalTicket.orElse(null);
+                if (ticket == null) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                    return;
                 }
                 
-                location.setServer(locationUser.getServer());
-            });
-        } else {
-            player.getCurrentServer().map(ServerConnection::getServerInfo).map(ServerInfo::getName).ifPresent(location::setServer);
-        }
-        
-        TicketData ticket = DataManager.createTicket(user.getUniqueId(), Instant.now(), location, message).orElse(null);
-        if (ticket == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        VelocityToolbox.sendRedisMessage("TicketOpen", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.add("user", Configuration.getGson().toJsonTree(user));
-        });
-        
-        source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You opened a ticket, it has been assigned ID #" + ticket.getId(), TextColor.GOLD)));
-        VelocityToolbox.broadcast(source, "ticket.open.notify", VelocityToolbox.getTextPrefix()
-                .append(TextComponent.of("A new ticket has been opened by ", TextColor.GREEN))
-                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
-                .append(TextComponent.of(", id assigned #" + ticket.getId(), TextColor.GREEN)));
+                MessageManager.sendMessage(new TicketOpenMessage(ticket, user));
+                
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You opened a ticket, it has been assigned ID #" + ticket.getId(), TextColor.GOLD)));
+                VelocityToolbox.broadcast(source, "ticket.open.notify", VelocityToolbox.getTextPrefix()
+                        .append(TextComponent.of("A new ticket has been opened by ", TextColor.GREEN))
+                        .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                        .append(TextComponent.of(", id assigned #" + ticket.getId(), TextColor.GREEN)));
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
 
 package io.github.lxgaming.ticket.velocity.command;
 
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.velocitypowered.api.command.CommandSource;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.CommentData;
@@ -30,13 +32,14 @@ import io.github.lxgaming.ticket.common.manager.DataManager;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
 import net.kyori.text.TextComponent;
-import net.kyori.text.event.ClickEvent;
 import net.kyori.text.format.TextColor;
 import net.kyori.text.format.TextDecoration;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class ReadCommand extends AbstractCommand {
     
@@ -45,45 +48,25 @@ public class ReadCommand extends AbstractCommand {
         addAlias("check");
         setDescription("Lists Open, Unread tickets or provides details of a specific ticket");
         setPermission("ticket.read.base");
-        setUsage("[Id]");
+        setUsage("[Id | page <Page>]");
     }
     
     @Override
     public void execute(Object object, List<String> arguments) {
         CommandSource source = (CommandSource) object;
         if (arguments.isEmpty()) {
-            Collection<TicketData> openTickets = DataManager.getCachedOpenTickets();
-            openTickets.removeIf(ticket -> {
-                return !VelocityToolbox.getUniqueId(source).equals(ticket.getUser()) && !source.hasPermission("ticket.read.others");
-            });
-            
-            if (!openTickets.isEmpty()) {
-                source.sendMessage(TextComponent.builder("")
-                        .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                        .append(TextComponent.of(" " + openTickets.size(), TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
-                        .append(TextComponent.of(" Open " + Toolbox.formatUnit(openTickets.size(), "Ticket", "Tickets") + " ", TextColor.GREEN))
-                        .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                        .build());
-                
-                openTickets.forEach(ticket -> source.sendMessage(buildTicket(ticket)));
-            }
-            
-            Collection<TicketData> unreadTickets = DataManager.getCachedUnreadTickets(VelocityToolbox.getUniqueId(source));
-            if (!unreadTickets.isEmpty()) {
-                source.sendMessage(TextComponent.builder("")
-                        .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                        .append(TextComponent.of(" " + unreadTickets.size(), TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
-                        .append(TextComponent.of(" Unread " + Toolbox.formatUnit(unreadTickets.size(), "Ticket", "Tickets") + " ", TextColor.GREEN))
-                        .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                        .build());
-                
-                unreadTickets.forEach(ticket -> source.sendMessage(buildTicket(ticket)));
-            }
-            
-            if (openTickets.isEmpty() && unreadTickets.isEmpty()) {
-                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("There are no open tickets", TextColor.YELLOW)));
+            sendTickets(source, 1);
+            return;
+        }
+        
+        if (arguments.size() == 2 && StringUtils.equalsIgnoreCase(arguments.get(0), "page")) {
+            Integer page = Toolbox.parseInteger(arguments.get(1)).orElse(null);
+            if (page == null || page < 1) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to parse page", TextColor.RED)));
+                return;
             }
             
+            sendTickets(source, page);
             return;
         }
         
@@ -93,113 +76,155 @@ public class ReadCommand extends AbstractCommand {
             return;
         }
         
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find ticket", TextColor.RED)));
-            return;
-        }
-        
-        boolean owner = VelocityToolbox.getUniqueId(source).equals(ticket.getUser());
-        if (!owner && !source.hasPermission("ticket.read.others")) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You are not the owner of that ticket", TextColor.RED)));
-            return;
-        }
-        
-        if (owner && !ticket.isRead()) {
-            ticket.setRead(true);
-            if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+        DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+            TicketData ticket = optionalTicket.orElse(null);
+            if (ticket == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find ticket", TextColor.RED)));
                 return;
             }
-        }
-        
-        TextComponent.Builder textBuilder = TextComponent.builder("");
-        textBuilder.append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true));
-        textBuilder.append(TextComponent.of(" Ticket #" + ticket.getId() + " ", TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false));
-        textBuilder.append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true));
-        textBuilder.append(TextComponent.newline());
-        
-        textBuilder.append(TextComponent.of("Time", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
-        textBuilder.append(TextComponent.of(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getDateFormat).flatMap(pattern -> Toolbox.formatInstant(pattern, ticket.getTimestamp())).orElse("Unknown")));
-        
-        textBuilder.append(TextComponent.newline());
-        textBuilder.append(TextComponent.of("Status", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
-        if (ticket.getStatus() == 0) {
-            textBuilder.append(TextComponent.of("Open", TextColor.GREEN));
-        } else if (ticket.getStatus() == 1) {
-            textBuilder.append(TextComponent.of("Closed", TextColor.RED));
-        }
-        
-        textBuilder.append(TextComponent.newline());
-        textBuilder.append(TextComponent.of("User", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
-        UserData user = DataManager.getUser(ticket.getUser()).orElse(null);
-        if (user != null) {
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
-            } else {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+            
+            boolean owner = VelocityToolbox.getUniqueId(source).equals(ticket.getUser());
+            if (!owner && !source.hasPermission("ticket.read.others")) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("You are not the owner of that ticket", TextColor.RED)));
+                return;
+            }
+            
+            if (owner && !ticket.isRead()) {
+                ticket.setRead(true);
+                DataManager.queueTicketRead(ticket);
             }
+            
+            sendTicket(source, ticket);
+        }).exceptionally(this::handleException);
+    }
+    
+    private void sendTickets(CommandSource source, int page) {
+        UUID uniqueId = VelocityToolbox.getUniqueId(source);
+        Collection<Integer> openTicketIds;
+        if (source.hasPermission("ticket.read.others")) {
+            openTicketIds = DataManager.getTicketIndex().getOpenTicketIds();
         } else {
-            textBuilder.append(TextComponent.of("Unknown", TextColor.WHITE));
+            openTicketIds = DataManager.getTicketIndex().getOpenTicketIds(uniqueId);
         }
         
-        textBuilder.append(TextComponent.newline());
-        textBuilder.append(TextComponent.of("Location", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
-        
-        if (ticket.getLocation().getX() != null && ticket.getLocation().getY() != null && ticket.getLocation().getZ() != null) {
-            textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getX(), 3), TextColor.WHITE)).append(TextComponent.of(", ", TextColor.GRAY));
-            textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getY(), 3), TextColor.WHITE)).append(TextComponent.of(", ", TextColor.GRAY));
-            textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getZ(), 3), TextColor.WHITE)).append(TextComponent.of(" @ ", TextColor.GRAY));
+        Collection<Integer> unreadTicketIds = DataManager.getTicketIndex().getUnreadTicketIds(uniqueId);
+        int openSize = openTicketIds.size();
+        int unreadSize = unreadTicketIds.size();
+        if (openSize == 0 && unreadSize == 0) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("There are no open tickets", TextColor.YELLOW)));
+            return;
         }
         
-        textBuilder.append(TextComponent.of(StringUtils.defaultIfBlank(ticket.getLocation().getServer(), "Unknown"), TextColor.WHITE));
-        if (ticket.getLocation().getDimension() != null) {
-            textBuilder.append(TextComponent.of(" (", TextColor.GRAY)).append(TextComponent.of("" + ticket.getLocation().getDimension(), TextColor.WHITE)).append(TextComponent.of(")", TextColor.GRAY));
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        int pages = ((openSize + unreadSize) + pageSize - 1) / pageSize;
+        if (page > pages) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("There are no tickets on that page", TextColor.YELLOW)));
+            return;
         }
         
-        textBuilder.append(TextComponent.newline());
-        textBuilder.append(TextComponent.of("Message", TextColor.AQUA)).append(TextComponent.of(": " + ticket.getText(), TextColor.WHITE));
+        // Open tickets are listed before unread tickets, only the tickets on the requested page are looked up and rendered
+        int offset = (page - 1) * pageSize;
+        List<TicketData> openTickets = DataManager.getCachedTickets(openTicketIds, offset, pageSize);
+        List<TicketData> unreadTickets = DataManager.getCachedTickets(unreadTicketIds, Math.max(offset - openSize, 0), pageSize - openTickets.size());
+        
+        if (!openTickets.isEmpty()) {
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" " + openSize, TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of(" Open " + Toolbox.formatUnit(openSize, "Ticket", "Tickets") + " ", TextColor.GREEN))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
+            
+            openTickets.forEach(ticket -> source.sendMessage(VelocityToolbox.buildTicket(ticket)));
+        }
         
-        if (!ticket.getComments().isEmpty()) {
-            textBuilder.append(TextComponent.newline());
-            textBuilder.append(TextComponent.of("Comments", TextColor.AQUA)).append(TextComponent.of(":", TextColor.WHITE));
-            source.sendMessage(textBuilder.build());
+        if (!unreadTickets.isEmpty()) {
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" " + unreadSize, TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of(" Unread " + Toolbox.formatUnit(unreadSize, "Ticket", "Tickets") + " ", TextColor.GREEN))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
             
-            ticket.getComments().forEach(comment -> source.sendMessage(buildComment(comment)));
-        } else {
-            source.sendMessage(textBuilder.build());
+            unreadTickets.forEach(ticket -> source.sendMessage(VelocityToolbox.buildTicket(ticket)));
+        }
+        
+        if (pages > 1) {
+            source.sendMessage(VelocityToolbox.buildPagination(page, page < pages, value -> "/" + Reference.ID + " read page " + value));
         }
     }
     
-    private TextComponent buildComment(CommentData comment) {
-        TextComponent.Builder textBuilder = TextComponent.builder("")
-                .append(TextComponent.of(Toolbox.getShortTimeString(System.currentTimeMillis() - comment.getTimestamp().toEpochMilli()), TextColor.GREEN))
-                .append(TextComponent.of(" by ", TextColor.GOLD));
-        
-        UserData user = DataManager.getUser(comment.getUser()).orElse(null);
-        if (user != null) {
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
+    private void sendTicket(CommandSource source, TicketData ticket) {
+        Collection<UUID> uniqueIds = Sets.newHashSet(ticket.getUser());
+        ticket.getComments().forEach(comment -> uniqueIds.add(comment.getUser()));
+        DataManager.getUsers(uniqueIds).thenAccept(optionalUsers -> {
+            Map<UUID, UserData> users = Maps.newHashMap();
+            optionalUsers.ifPresent(collection -> collection.forEach(user -> users.put(user.getUniqueId(), user)));
+            
+            TextComponent.Builder textBuilder = TextComponent.builder("");
+            textBuilder.append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true));
+            textBuilder.append(TextComponent.of(" Ticket #" + ticket.getId() + " ", TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false));
+            textBuilder.append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true));
+            textBuilder.append(TextComponent.newline());
+            
+            textBuilder.append(TextComponent.of("Time", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
+            textBuilder.append(TextComponent.of(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getDateFormat).flatMap(pattern -> Toolbox.formatInstant(pattern, ticket.getTimestamp())).orElse("Unknown")));
+            
+            textBuilder.append(TextComponent.newline());
+            textBuilder.append(TextComponent.of("Status", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
+            if (ticket.getStatus() == 0) {
+                textBuilder.append(TextComponent.of("Open", TextColor.GREEN));
+            } else if (ticket.getStatus() == 1) {
+                textBuilder.append(TextComponent.of("Closed", TextColor.RED));
+            }
+            
+            textBuilder.append(TextComponent.newline());
+            textBuilder.append(TextComponent.of("User", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
+            UserData user = users.get(ticket.getUser());
+            if (user != null) {
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
+                } else {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+                }
             } else {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+                textBuilder.append(TextComponent.of("Unknown", TextColor.WHITE));
             }
-        } else {
-            textBuilder.append(TextComponent.of("Unknown", TextColor.WHITE));
-        }
-        
-        textBuilder.append(TextComponent.of(" - ", TextColor.GOLD));
-        textBuilder.append(TextComponent.of(comment.getText(), TextColor.GRAY));
-        return textBuilder.build();
+            
+            textBuilder.append(TextComponent.newline());
+            textBuilder.append(TextComponent.of("Location", TextColor.AQUA)).append(TextComponent.of(": ", TextColor.WHITE));
+            
+            if (ticket.getLocation().getX() != null && ticket.getLocation().getY() != null && ticket.getLocation().getZ() != null) {
+                textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getX(), 3), TextColor.WHITE)).append(TextComponent.of(", ", TextColor.GRAY));
+                textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getY(), 3), TextColor.WHITE)).append(TextComponent.of(", ", TextColor.GRAY));
+                textBuilder.append(TextComponent.of("" + Toolbox.formatDecimal(ticket.getLocation().getZ(), 3), TextColor.WHITE)).append(TextComponent.of(" @ ", TextColor.GRAY));
+            }
+            
+            textBuilder.append(TextComponent.of(StringUtils.defaultIfBlank(ticket.getLocation().getServer(), "Unknown"), TextColor.WHITE));
+            if (ticket.getLocation().getDimension() != null) {
+                textBuilder.append(TextComponent.of(" (", TextColor.GRAY)).append(TextComponent.of("" + ticket.getLocation().getDimension(), TextColor.WHITE)).append(TextComponent.of(")", TextColor.GRAY));
+            }
+            
+            textBuilder.append(TextComponent.newline());
+            textBuilder.append(TextComponent.of("Message", TextColor.AQUA)).append(TextComponent.of(": " + ticket.getText(), TextColor.WHITE));
+            
+            if (!ticket.getComments().isEmpty()) {
+                textBuilder.append(TextComponent.newline());
+                textBuilder.append(TextComponent.of("Comments", TextColor.AQUA)).append(TextComponent.of(":", TextColor.WHITE));
+                source.sendMessage(textBuilder.build());
+                
+                ticket.getComments().forEach(comment -> source.sendMessage(buildComment(comment, users.get(comment.getUser()))));
+            } else {
+                source.sendMessage(textBuilder.build());
+            }
+        }).exceptionally(this::handleException);
     }
     
-    private TextComponent buildTicket(TicketData ticket) {
+    private TextComponent buildComment(CommentData comment, UserData user) {
         TextComponent.Builder textBuilder = TextComponent.builder("")
-                .clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read " + ticket.getId()))
-                .append(TextComponent.of("#" + ticket.getId(), TextColor.GOLD))
-                .append(TextComponent.of(" " + Toolbox.getShortTimeString(System.currentTimeMillis() - ticket.getTimestamp().toEpochMilli()), TextColor.GREEN))
+                .append(TextComponent.of(Toolbox.getShortTimeString(System.currentTimeMillis() - comment.getTimestamp().toEpochMilli()), TextColor.GREEN))
                 .append(TextComponent.of(" by ", TextColor.GOLD));
         
-        UserData user = DataManager.getCachedUser(ticket.getUser()).orElse(null);
         if (user != null) {
             if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
                 textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
@@ -211,7 +236,7 @@ public class ReadCommand extends AbstractCommand {
         }
         
         textBuilder.append(TextComponent.of(" - ", TextColor.GOLD));
-        textBuilder.append(TextComponent.of(Toolbox.substring(ticket.getText(), 20), TextColor.GRAY));
+        textBuilder.append(TextComponent.of(comment.getText(), TextColor.GRAY));
         return textBuilder.build();
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package io.github.lxgaming.ticket.velocity.command;
 import com.velocitypowered.api.command.CommandSource;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
 import net.kyori.text.TextComponent;
 import net.kyori.text.format.TextColor;
@@ -36,10 +37,17 @@ public class ReloadCommand extends AbstractCommand {
     @Override
     public void execute(Object object, List<String> arguments) {
         CommandSource source = (CommandSource) object;
-        if (TicketImpl.getInstance().reloadTicket()) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Configuration reloaded", TextColor.GREEN)));
-        } else {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error occurred. Please check the console", TextColor.RED)));
-        }
+        TicketImpl.getInstance().reloadTicketAsync().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                handleException(throwable);
+            }
+            
+            if (result != null && result) {
+                VelocityPlugin.getInstance().getProxy().getAllPlayers().forEach(VelocityToolbox::updateNotifications);
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Configuration reloaded", TextColor.GREEN)));
+            } else {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error occurred. Please check the console", TextColor.RED)));
+            }
+        });
     }
 }
\ No newline at end of file
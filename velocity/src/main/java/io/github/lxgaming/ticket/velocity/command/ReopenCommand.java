@@ -20,10 +20,10 @@ import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.proxy.Player;
 import io.github.lxgaming.ticket.api.Ticket;
 import io.github.lxgaming.ticket.api.data.TicketData;
-import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.command.AbstractCommand;
-import io.github.lxgaming.ticket.common.configuration.Configuration;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.message.TicketReopenMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
@@ -56,38 +56,39 @@ public class ReopenCommand extends AbstractCommand {
             return;
         }
         
-        TicketData ticket = DataManager.getTicket(ticketId).orElse(null);
-        if (ticket == null) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket doesn't exist", TextColor.RED)));
-            return;
-        }
-        
-        if (ticket.getStatus() == 0) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket is already open", TextColor.RED)));
-            return;
-        }
-        
-        ticket.setStatus(0);
-        ticket.setRead(false);
-        if (!TicketImpl.getInstance().getStorage().getQuery().updateTicket(ticket)) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
-            return;
-        }
-        
-        VelocityToolbox.sendRedisMessage("TicketReopen", jsonObject -> {
-            jsonObject.add("ticket", Configuration.getGson().toJsonTree(ticket));
-            jsonObject.addProperty("by", Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"));
-        });
-        
-        TextComponent textComponent = VelocityToolbox.getTextPrefix()
-                .append(TextComponent.of("Ticket #" + ticket.getId() + " was reopened by ", TextColor.GOLD))
-                .append(TextComponent.of(Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"), TextColor.YELLOW));
-        
-        Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
-        if (player != null) {
-            player.sendMessage(textComponent);
-        }
-        
-        VelocityToolbox.broadcast(player, "ticket.reopen.notify", textComponent);
+        DataManager.getTicket(ticketId).thenAccept(optionalTicket -> {
+            TicketData ticket = optionalTicket.orElse(null);
+            if (ticket == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket doesn't exist", TextColor.RED)));
+                return;
+            }
+            
+            if (ticket.getStatus() == 0) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Ticket is already open", TextColor.RED)));
+                return;
+            }
+            
+            ticket.setStatus(0);
+            ticket.setRead(false);
+            DataManager.updateTicket(ticket).thenAccept(result -> {
+                if (!result) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                    return;
+                }
+                
+                MessageManager.sendMessage(new TicketReopenMessage(ticket.getId(), ticket.getStatus(), ticket.isRead(), ticket.getVersion(), Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown")));
+                
+                TextComponent textComponent = VelocityToolbox.getTextPrefix()
+                        .append(TextComponent.of("Ticket #" + ticket.getId() + " was reopened by ", TextColor.GOLD))
+                        .append(TextComponent.of(Ticket.getInstance().getPlatform().getUsername(VelocityToolbox.getUniqueId(source)).orElse("Unknown"), TextColor.YELLOW));
+                
+                Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
+                if (player != null) {
+                    player.sendMessage(textComponent);
+                }
+                
+                VelocityToolbox.broadcast(player, "ticket.reopen.notify", textComponent);
+            }).exceptionally(this::handleException);
+        }).exceptionally(this::handleException);
     }
 }
\ No newline at end of file
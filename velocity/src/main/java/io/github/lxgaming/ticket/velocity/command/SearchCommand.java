@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.lxgaming.ticket.velocity.command;
+
+import com.velocitypowered.api.command.CommandSource;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.TicketImpl;
+import io.github.lxgaming.ticket.common.command.AbstractCommand;
+import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.configuration.category.TicketCategory;
+import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.storage.SearchIndex;
+import io.github.lxgaming.ticket.common.util.Toolbox;
+import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
+import net.kyori.text.TextComponent;
+import net.kyori.text.format.TextColor;
+import net.kyori.text.format.TextDecoration;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+public class SearchCommand extends AbstractCommand {
+    
+    public SearchCommand() {
+        addAlias("search");
+        addAlias("find");
+        setDescription("Searches ticket messages and comments");
+        setPermission("ticket.search.base");
+        setUsage("<Terms> [page <Page>]");
+    }
+    
+    @Override
+    public void execute(Object object, List<String> arguments) {
+        CommandSource source = (CommandSource) object;
+        if (arguments.isEmpty()) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Invalid arguments: " + getUsage(), TextColor.RED)));
+            return;
+        }
+        
+        int page = 1;
+        // The page is an explicit suffix so numeric search terms are never mistaken for it
+        int size = arguments.size();
+        if (size > 2 && StringUtils.equalsIgnoreCase(arguments.get(size - 2), "page") && Toolbox.parseInteger(arguments.get(size - 1)).isPresent()) {
+            page = Toolbox.parseInteger(arguments.remove(size - 1)).get();
+            arguments.remove(size - 2);
+        }
+        
+        int pageSize = Math.max(TicketImpl.getInstance().getConfig().map(Config::getTicket).map(TicketCategory::getPageSize).orElse(8), 1);
+        if (page < 1 || (long) page * (pageSize + 1) > Integer.MAX_VALUE) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Invalid page", TextColor.RED)));
+            return;
+        }
+        
+        String query = String.join(" ", arguments);
+        if (SearchIndex.getTerms(query).isEmpty()) {
+            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Search terms are too short", TextColor.RED)));
+            return;
+        }
+        
+        int currentPage = page;
+        
+        // Requests one additional result to determine whether there is a next page
+        DataManager.searchTickets(query, (page - 1) * pageSize, pageSize + 1).thenAccept(optionalTickets -> {
+            List<TicketData> tickets = optionalTickets.orElse(null);
+            if (tickets == null) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("An error has occurred. Details are available in console.", TextColor.RED)));
+                return;
+            }
+            
+            if (tickets.isEmpty()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("No tickets matched your search", TextColor.YELLOW)));
+                return;
+            }
+            
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" Search Results ", TextColor.YELLOW).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
+            
+            tickets.stream().limit(pageSize).forEach(ticket -> source.sendMessage(VelocityToolbox.buildTicket(ticket)));
+            source.sendMessage(VelocityToolbox.buildPagination(currentPage, tickets.size() > pageSize, value -> "/" + Reference.ID + " search " + query + " page " + value));
+        }).exceptionally(this::handleException);
+    }
+}
\ No newline at end of file
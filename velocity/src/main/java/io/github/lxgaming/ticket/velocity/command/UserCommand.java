@@ -63,46 +63,51 @@ public class UserCommand extends AbstractCommand {
                 return;
             }
             
-            UserData user = DataManager.getUser(uniqueId).orElse(null);
-            if (user == null) {
-                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find user", TextColor.RED)));
-                return;
-            }
+            DataManager.getUser(uniqueId).thenAccept(optionalUser -> {
+                UserData user = optionalUser.orElse(null);
+                if (user == null) {
+                    source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Failed to find user", TextColor.RED)));
+                    return;
+                }
+                
+                source.sendMessage(buildUserInfo(user));
+            }).exceptionally(this::handleException);
             
-            source.sendMessage(buildUserInfo(user));
-            return;
-        }
-        
-        Collection<UserData> users = DataManager.getUsers(data).orElse(null);
-        if (users == null || users.isEmpty()) {
-            source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Fail to find users by the name of ", TextColor.RED)).append(TextComponent.of(data, TextColor.YELLOW)));
             return;
         }
         
-        if (users.size() == 1) {
-            source.sendMessage(buildUserInfo(users.iterator().next()));
-            return;
-        }
-        
-        source.sendMessage(TextComponent.builder("")
-                .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                .append(TextComponent.of(" Users ", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, false))
-                .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
-                .build());
-        for (UserData user : users) {
-            TextComponent.Builder textBuilder = TextComponent.builder("");
-            textBuilder.clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " " + getPrimaryAlias().orElse("unknown") + " " + user.getUniqueId()));
-            textBuilder.append(TextComponent.of("> ", TextColor.BLUE));
+        DataManager.getUsers(data).thenAccept(optionalUsers -> {
+            Collection<UserData> users = optionalUsers.orElse(null);
+            if (users == null || users.isEmpty()) {
+                source.sendMessage(VelocityToolbox.getTextPrefix().append(TextComponent.of("Fail to find users by the name of ", TextColor.RED)).append(TextComponent.of(data, TextColor.YELLOW)));
+                return;
+            }
             
-            if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
-            } else {
-                textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+            if (users.size() == 1) {
+                source.sendMessage(buildUserInfo(users.iterator().next()));
+                return;
             }
             
-            textBuilder.append(TextComponent.of(" (", TextColor.DARK_GRAY)).append(TextComponent.of(user.getUniqueId().toString(), TextColor.GRAY)).append(TextComponent.of(")", TextColor.DARK_GRAY));
-            source.sendMessage(textBuilder.build());
-        }
+            source.sendMessage(TextComponent.builder("")
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .append(TextComponent.of(" Users ", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, false))
+                    .append(TextComponent.of("----------", TextColor.GREEN).decoration(TextDecoration.STRIKETHROUGH, true))
+                    .build());
+            for (UserData user : users) {
+                TextComponent.Builder textBuilder = TextComponent.builder("");
+                textBuilder.clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " " + getPrimaryAlias().orElse("unknown") + " " + user.getUniqueId()));
+                textBuilder.append(TextComponent.of("> ", TextColor.BLUE));
+                
+                if (Ticket.getInstance().getPlatform().isOnline(user.getUniqueId())) {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
+                } else {
+                    textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+                }
+                
+                textBuilder.append(TextComponent.of(" (", TextColor.DARK_GRAY)).append(TextComponent.of(user.getUniqueId().toString(), TextColor.GRAY)).append(TextComponent.of(")", TextColor.DARK_GRAY));
+                source.sendMessage(textBuilder.build());
+            }
+        }).exceptionally(this::handleException);
     }
     
     private TextComponent buildUserInfo(UserData user) {
@@ -143,6 +148,12 @@ public class UserCommand extends AbstractCommand {
                 .append(TextComponent.of("[", TextColor.GOLD)).append(TextComponent.of("Pardon", TextColor.GREEN)).append(TextComponent.of("]", TextColor.GOLD))
                 .build());
         
+        textBuilder.append(TextComponent.space());
+        textBuilder.append(TextComponent.builder("")
+                .clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " history " + user.getUniqueId()))
+                .append(TextComponent.of("[", TextColor.GOLD)).append(TextComponent.of("History", TextColor.AQUA)).append(TextComponent.of("]", TextColor.GOLD))
+                .build());
+        
         textBuilder.append(TextComponent.of(""));
         return textBuilder.build();
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.velocity.listener;
+
+import com.velocitypowered.api.proxy.Player;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
+import io.github.lxgaming.ticket.common.listener.AbstractMessageListener;
+import io.github.lxgaming.ticket.velocity.VelocityPlugin;
+import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
+import net.kyori.text.TextComponent;
+import net.kyori.text.format.TextColor;
+
+public class MessageListener extends AbstractMessageListener {
+    
+    @Override
+    protected void onTicketClose(TicketData ticket, UserData user) {
+        TextComponent textComponent = VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of("Ticket #" + ticket.getId() + " was closed by ", TextColor.GOLD))
+                .append(TextComponent.of(user.getName(), TextColor.YELLOW));
+        
+        Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
+        if (player != null) {
+            player.sendMessage(textComponent);
+        }
+        
+        VelocityToolbox.broadcast(player, "ticket.close.notify", textComponent);
+    }
+    
+    @Override
+    protected void onTicketComment(TicketData ticket, UserData user) {
+        TextComponent textComponent = VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                .append(TextComponent.of(" added a comment to Ticket #" + ticket.getId(), TextColor.GOLD));
+        
+        Player player = VelocityPlugin.getInstance().getProxy().getPlayer(ticket.getUser()).orElse(null);
+        if (player != null) {
+            player.sendMessage(textComponent);
+        }
+        
+        VelocityToolbox.broadcast(player, "ticket.open.notify", textComponent);
+    }
+    
+    @Override
+    protected void onTicketOpen(TicketData ticket, UserData user) {
+        VelocityToolbox.broadcast(null, "ticket.open.notify", VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of("A new ticket has been opened by ", TextColor.GREEN))
+                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                .append(TextComponent.of(", id assigned #" + ticket.getId(), TextColor.GREEN)));
+    }
+    
+    @Override
+    protected void onTicketReopen(TicketData ticket, String source) {
+        VelocityToolbox.broadcast(null, "ticket.reopen.notify", VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of("Ticket #" + ticket.getId() + " was reopened by ", TextColor.GOLD))
+                .append(TextComponent.of(source, TextColor.YELLOW)));
+    }
+    
+    @Override
+    protected void onUserBan(UserData user, String source) {
+        VelocityToolbox.broadcast(null, "ticket.ban.notify", VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                .append(TextComponent.of(" was banned by ", TextColor.GREEN))
+                .append(TextComponent.of(source, TextColor.YELLOW)));
+    }
+    
+    @Override
+    protected void onUserPardon(UserData user, String source) {
+        VelocityToolbox.broadcast(null, "ticket.pardon.notify", VelocityToolbox.getTextPrefix()
+                .append(TextComponent.of(user.getName(), TextColor.YELLOW))
+                .append(TextComponent.of(" was pardoned by ", TextColor.GREEN))
+                .append(TextComponent.of(source, TextColor.YELLOW)));
+    }
+}
\ No newline at end of file
@@ -19,20 +19,22 @@ package io.github.lxgaming.ticket.velocity.listener;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
-import io.github.lxgaming.ticket.api.Ticket;
+import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import io.github.lxgaming.ticket.api.data.TicketData;
-import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
 import io.github.lxgaming.ticket.common.TicketImpl;
 import io.github.lxgaming.ticket.common.configuration.Config;
 import io.github.lxgaming.ticket.common.manager.DataManager;
+import io.github.lxgaming.ticket.common.manager.MessageManager;
+import io.github.lxgaming.ticket.common.manager.NotificationManager;
+import io.github.lxgaming.ticket.common.manager.PresenceManager;
+import io.github.lxgaming.ticket.common.message.PresenceUpdateMessage;
 import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import io.github.lxgaming.ticket.velocity.util.VelocityToolbox;
 import net.kyori.text.TextComponent;
 import net.kyori.text.event.ClickEvent;
 import net.kyori.text.format.TextColor;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +43,9 @@ public class VelocityListener {
     
     @Subscribe
     public void onPostLogin(PostLoginEvent event) {
+        PresenceManager.addUser(event.getPlayer().getUniqueId());
+        MessageManager.sendMessage(new PresenceUpdateMessage(event.getPlayer().getUniqueId(), true));
+        VelocityToolbox.updateNotifications(event.getPlayer());
         VelocityPlugin.getInstance().getProxy().getScheduler().buildTask(VelocityPlugin.getInstance(), () -> {
             if (!event.getPlayer().isActive()) {
                 return;
@@ -60,39 +65,38 @@ public class VelocityListener {
                 }
             }
             
-            UserData user = DataManager.getUser(event.getPlayer().getUniqueId()).orElse(null);
-            if (user == null) {
-                return;
-            }
-            
-            if (!StringUtils.equals(user.getName(), event.getPlayer().getUsername())) {
-                Ticket.getInstance().getLogger().debug("Updating username: {} -> {}", user.getName(), event.getPlayer().getUsername());
-                user.setName(event.getPlayer().getUsername());
-                if (!TicketImpl.getInstance().getStorage().getQuery().updateUser(user)) {
-                    Ticket.getInstance().getLogger().warn("Failed to update {} ({})", user.getName(), user.getUniqueId());
+            DataManager.queueLogin(event.getPlayer().getUniqueId(), event.getPlayer().getUsername()).thenAccept(optionalTickets -> {
+                Collection<TicketData> tickets = optionalTickets.orElse(null);
+                if (tickets == null || tickets.isEmpty() || !event.getPlayer().isActive()) {
+                    return;
                 }
-            }
-            
-            Collection<TicketData> tickets = DataManager.getUnreadTickets(user.getUniqueId()).orElse(null);
-            if (tickets == null || tickets.isEmpty()) {
-                return;
-            }
-            
-            TextComponent.Builder textBuilder = TextComponent.builder("");
-            textBuilder.append(VelocityToolbox.getTextPrefix());
-            textBuilder.append(TextComponent.builder("")
-                    .clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read"))
-                    .append(TextComponent.of("You have " + tickets.size() + " unread " + Toolbox.formatUnit(tickets.size(), "ticket", "tickets"), TextColor.GOLD))
-                    .build());
-            
-            event.getPlayer().sendMessage(textBuilder.build());
+                
+                TextComponent.Builder textBuilder = TextComponent.builder("");
+                textBuilder.append(VelocityToolbox.getTextPrefix());
+                textBuilder.append(TextComponent.builder("")
+                        .clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read"))
+                        .append(TextComponent.of("You have " + tickets.size() + " unread " + Toolbox.formatUnit(tickets.size(), "ticket", "tickets"), TextColor.GOLD))
+                        .build());
+                
+                event.getPlayer().sendMessage(textBuilder.build());
+            });
         }).delay(TicketImpl.getInstance().getConfig().map(Config::getLoginDelay).orElse(0L), TimeUnit.MILLISECONDS).schedule();
     }
     
     @Subscribe
     public void onDisconnect(DisconnectEvent event) {
+        PresenceManager.removeUser(event.getPlayer().getUniqueId());
+        MessageManager.sendMessage(new PresenceUpdateMessage(event.getPlayer().getUniqueId(), false));
+        NotificationManager.removeUser(event.getPlayer().getUniqueId());
+        
         // Forces the expiry to be recalculated
         DataManager.getCachedUser(event.getPlayer().getUniqueId());
         DataManager.getCachedUnreadTickets(event.getPlayer().getUniqueId());
     }
+    
+    @Subscribe
+    public void onServerConnected(ServerConnectedEvent event) {
+        // Permissions may be contextual to the server the player is connected to
+        VelocityToolbox.updateNotifications(event.getPlayer());
+    }
 }
\ No newline at end of file
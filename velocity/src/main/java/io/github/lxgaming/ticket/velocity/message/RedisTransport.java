@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Alex Thomson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.lxgaming.ticket.velocity.message;
+
+import com.velocitypowered.api.event.Subscribe;
+import io.github.lxgaming.redisvelocity.api.RedisVelocity;
+import io.github.lxgaming.redisvelocity.api.event.RedisMessageEvent;
+import io.github.lxgaming.ticket.api.util.Reference;
+import io.github.lxgaming.ticket.common.message.MessageTransport;
+import io.github.lxgaming.ticket.velocity.VelocityPlugin;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.function.Consumer;
+
+public class RedisTransport implements MessageTransport {
+    
+    private volatile Consumer<String> consumer;
+    
+    @Override
+    public void start(Consumer<String> consumer) {
+        this.consumer = consumer;
+        VelocityPlugin.getInstance().getProxy().getEventManager().register(VelocityPlugin.getInstance(), this);
+        RedisVelocity.getInstance().registerChannels(Reference.ID);
+    }
+    
+    @Override
+    public void send(String message) {
+        RedisVelocity.getInstance().sendMessage(Reference.ID, message);
+    }
+    
+    @Override
+    public void shutdown() {
+        RedisVelocity.getInstance().unregisterChannels(Reference.ID);
+        VelocityPlugin.getInstance().getProxy().getEventManager().unregisterListener(VelocityPlugin.getInstance(), this);
+        this.consumer = null;
+    }
+    
+    @Subscribe
+    public void onRedisMessage(RedisMessageEvent event) {
+        if (StringUtils.isBlank(event.getChannel()) || !event.getChannel().equals(Reference.ID)) {
+            return;
+        }
+        
+        Consumer<String> consumer = this.consumer;
+        if (consumer != null) {
+            consumer.accept(event.getMessage());
+        }
+    }
+}
\ No newline at end of file
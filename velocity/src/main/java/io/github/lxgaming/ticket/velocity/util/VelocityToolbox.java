@@ -16,15 +16,15 @@
 
 package io.github.lxgaming.ticket.velocity.util;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.proxy.Player;
-import io.github.lxgaming.redisvelocity.api.RedisVelocity;
 import io.github.lxgaming.ticket.api.Platform;
+import io.github.lxgaming.ticket.api.data.TicketData;
+import io.github.lxgaming.ticket.api.data.UserData;
 import io.github.lxgaming.ticket.api.util.Reference;
-import io.github.lxgaming.ticket.common.TicketImpl;
-import io.github.lxgaming.ticket.common.configuration.Config;
+import io.github.lxgaming.ticket.common.cache.RenderCache;
+import io.github.lxgaming.ticket.common.manager.NotificationManager;
+import io.github.lxgaming.ticket.common.util.Toolbox;
 import io.github.lxgaming.ticket.velocity.VelocityPlugin;
 import net.kyori.text.TextComponent;
 import net.kyori.text.event.ClickEvent;
@@ -33,11 +33,14 @@ import net.kyori.text.format.TextColor;
 import net.kyori.text.format.TextDecoration;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Collection;
 import java.util.UUID;
-import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 public class VelocityToolbox {
     
+    private static final RenderCache<TextComponent[]> TICKET_RENDER_CACHE = new RenderCache<>(VelocityToolbox::renderTicket);
+    
     public static TextComponent getTextPrefix() {
         TextComponent.Builder textBuilder = TextComponent.builder();
         textBuilder.hoverEvent(HoverEvent.of(HoverEvent.Action.SHOW_TEXT, getPluginInformation()));
@@ -62,18 +65,68 @@ public class VelocityToolbox {
         return textBuilder.build();
     }
     
-    public static void sendRedisMessage(String type, Consumer<JsonObject> consumer) {
-        if (VelocityPlugin.getInstance().getProxy().getPluginManager().getPlugin("redisvelocity").isPresent()) {
-            JsonObject jsonObject = new JsonObject();
-            jsonObject.addProperty("id", TicketImpl.getInstance().getConfig().map(Config::getProxyId).orElse(null));
-            jsonObject.addProperty("type", type);
-            consumer.accept(jsonObject);
-            RedisVelocity.getInstance().sendMessage(Reference.ID, new Gson().toJson(jsonObject));
+    public static TextComponent buildTicket(TicketData ticket) {
+        TextComponent[] components = TICKET_RENDER_CACHE.get(ticket);
+        
+        // Only the relative time changes between invocations
+        return TextComponent.builder("")
+                .clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, "/" + Reference.ID + " read " + ticket.getId()))
+                .append(components[0])
+                .append(TextComponent.of(" " + Toolbox.getShortTimeString(System.currentTimeMillis() - ticket.getTimestamp().toEpochMilli()), TextColor.GREEN))
+                .append(components[1])
+                .build();
+    }
+    
+    private static TextComponent[] renderTicket(TicketData ticket, UserData user, boolean online) {
+        TextComponent.Builder textBuilder = TextComponent.builder("")
+                .append(TextComponent.of(" by ", TextColor.GOLD));
+        
+        if (user != null) {
+            if (online) {
+                textBuilder.append(TextComponent.of(user.getName(), TextColor.GREEN));
+            } else {
+                textBuilder.append(TextComponent.of(user.getName(), TextColor.RED));
+            }
+        } else {
+            textBuilder.append(TextComponent.of("Unknown", TextColor.WHITE));
         }
+        
+        textBuilder.append(TextComponent.of(" - ", TextColor.GOLD));
+        textBuilder.append(TextComponent.of(Toolbox.substring(ticket.getText(), 20), TextColor.GRAY));
+        return new TextComponent[]{TextComponent.of("#" + ticket.getId(), TextColor.GOLD), textBuilder.build()};
+    }
+    
+    public static TextComponent buildPagination(int page, boolean hasNext, IntFunction<String> command) {
+        TextComponent.Builder textBuilder = TextComponent.builder("");
+        if (page > 1) {
+            textBuilder.append(TextComponent.of("« Previous", TextColor.GOLD).clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, command.apply(page - 1))));
+        } else {
+            textBuilder.append(TextComponent.of("« Previous", TextColor.DARK_GRAY));
+        }
+        
+        textBuilder.append(TextComponent.of(" | Page " + page + " | ", TextColor.YELLOW));
+        if (hasNext) {
+            textBuilder.append(TextComponent.of("Next »", TextColor.GOLD).clickEvent(ClickEvent.of(ClickEvent.Action.RUN_COMMAND, command.apply(page + 1))));
+        } else {
+            textBuilder.append(TextComponent.of("Next »", TextColor.DARK_GRAY));
+        }
+        
+        return textBuilder.build();
     }
     
     public static void broadcast(CommandSource source, String permission, TextComponent message) {
         VelocityPlugin.getInstance().getProxy().getConsoleCommandSource().sendMessage(message);
+        Collection<UUID> recipients = NotificationManager.getRecipients(permission).orElse(null);
+        if (recipients != null) {
+            for (UUID uniqueId : recipients) {
+                VelocityPlugin.getInstance().getProxy().getPlayer(uniqueId)
+                        .filter(player -> player != source)
+                        .ifPresent(player -> player.sendMessage(message));
+            }
+            
+            return;
+        }
+        
         for (Player player : VelocityPlugin.getInstance().getProxy().getAllPlayers()) {
             if (player != source && (StringUtils.isBlank(permission) || player.hasPermission(permission))) {
                 player.sendMessage(message);
@@ -81,6 +134,10 @@ public class VelocityToolbox {
         }
     }
     
+    public static void updateNotifications(Player player) {
+        NotificationManager.addUser(player.getUniqueId(), player::hasPermission);
+    }
+    
     public static UUID getUniqueId(CommandSource source) {
         if (source instanceof Player) {
             return ((Player) source).getUniqueId();